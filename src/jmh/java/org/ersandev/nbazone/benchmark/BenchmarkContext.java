@@ -0,0 +1,65 @@
+package org.ersandev.nbazone.benchmark;
+
+import org.ersandev.nbazone.NbaZoneApplication;
+import org.ersandev.nbazone.importer.PlayerImportService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// Uygulamayı MySQL yerine bellek içi H2 (MySQL modu) ile ayağa kaldırır. Her benchmark kendi veritabanını alır,
+// loglar ve SQL çıktısı kapatılır ki ölçüme karışmasın.
+final class BenchmarkContext {
+
+    static final String[] TEAMS = {"LAL", "BOS", "GSW", "MIL", "DEN", "DAL", "PHX", "MIA", "NYK", "HOU"};
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.show-sql=false",
+                "server.port=0",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "spring.app.rateLimit.enabled=false"));
+        properties.addAll(List.of(extraProperties));
+        // builder.properties() sadece varsayılan değer verir ve application.properties onu ezer,
+        // bu yüzden ayarlar komut satırı argümanı olarak geçilir
+        return new SpringApplicationBuilder(NbaZoneApplication.class)
+                .run(properties.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    // Nba_Stats.csv formatında rastgele ama tekrarlanabilir (sabit seed) oyuncular, gerçek import yolundan yüklenir
+    static void seedPlayers(ConfigurableApplicationContext context, int rows) {
+        Random random = new Random(42);
+        StringBuilder csv = new StringBuilder("Player;Team;Age;Min;PTS;FG%;3P%;FT%;DREB;REB;AST;STL;BLK\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("Player ").append(i).append(';')
+                    .append(TEAMS[i % TEAMS.length]).append(';')
+                    .append(19 + random.nextInt(20));
+            for (int stat = 0; stat < 10; stat++) {
+                csv.append(';').append(Math.round(random.nextDouble() * 400) / 10.0);
+            }
+            csv.append('\n');
+        }
+        try {
+            context.getBean(PlayerImportService.class)
+                    .importCsv(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
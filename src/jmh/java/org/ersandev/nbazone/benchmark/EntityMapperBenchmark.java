@@ -0,0 +1,77 @@
+package org.ersandev.nbazone.benchmark;
+
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.mapper.EntityMapper;
+import org.ersandev.nbazone.mapper.PlayerMapperImpl;
+import org.ersandev.nbazone.player.Player;
+import org.modelmapper.Conditions;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// "modelMapper" metotları eski reflection tabanlı yolu, "entityMapper" metotları üretilmiş PlayerMapper'a giden
+// bugünkü EntityMapper'ı ölçer.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityMapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private ModelMapper skipNullModelMapper;
+    private EntityMapper entityMapper;
+    private Player player;
+    private PlayerRequestDto partialUpdate;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        skipNullModelMapper = new ModelMapper();
+        skipNullModelMapper.getConfiguration().setPropertyCondition(Conditions.isNotNull());
+        entityMapper = new EntityMapper(new ModelMapper(), new PlayerMapperImpl());
+
+        player = new Player(7L, "Alperen Sengun", "HOU", 22, 32.5, 19.1, 49.6, 29.7, 69.7,
+                6.6, 10.3, 4.9, 1.1, 0.8, 0L, "hou");
+        partialUpdate = new PlayerRequestDto();
+        partialUpdate.setTeam("HOU");
+        partialUpdate.setAge(23);
+        partialUpdate.setPts(21.0);
+    }
+
+    @Benchmark
+    public PlayerResponseDto entityToDtoModelMapper() {
+        return modelMapper.map(player, PlayerResponseDto.class);
+    }
+
+    @Benchmark
+    public PlayerResponseDto entityToDtoEntityMapper() {
+        return entityMapper.entityToDto(player, PlayerResponseDto.class);
+    }
+
+    @Benchmark
+    public Player partialUpdateModelMapper() {
+        Player target = new Player();
+        skipNullModelMapper.map(partialUpdate, target);
+        return target;
+    }
+
+    @Benchmark
+    public Player partialUpdateEntityMapper() {
+        Player target = new Player();
+        entityMapper.updateEntityFromDto(partialUpdate, target);
+        return target;
+    }
+}
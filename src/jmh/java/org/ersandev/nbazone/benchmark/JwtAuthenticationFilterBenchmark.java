@@ -0,0 +1,105 @@
+package org.ersandev.nbazone.benchmark;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.ersandev.nbazone.security.jwt.JwtAuthenticationFilter;
+import org.ersandev.nbazone.security.jwt.JwtUtils;
+import org.ersandev.nbazone.security.userdetail.CustomUserDetails;
+import org.ersandev.nbazone.user.AppRole;
+import org.ersandev.nbazone.user.Role;
+import org.ersandev.nbazone.user.RoleRepository;
+import org.ersandev.nbazone.user.User;
+import org.ersandev.nbazone.user.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Uygulamadaki JwtAuthenticationFilter bean'ini gerçek cache'ler ve H2 üzerindeki kullanıcıyla çalıştırır:
+// cookie okuma, token cache, UserDetails yükleme (veya claims-principal) ve SecurityContext'e yazma dahil.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String COOKIE_NAME = "springBootnbazone";
+
+    @Param({"false", "true"})
+    public boolean claimsPrincipal;
+
+    private ConfigurableApplicationContext context;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("spring.app.jwtClaimsPrincipal=" + claimsPrincipal);
+        filter = context.getBean(JwtAuthenticationFilter.class);
+
+        User user = new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .execute(status -> {
+                    Role role = context.getBean(RoleRepository.class).findByRoleName(AppRole.ROLE_USER).orElseThrow();
+                    User created = new User("benchmark", "benchmark@nbazone.dev", "{noop}benchmark");
+                    created.setRoles(Set.of(role));
+                    return context.getBean(UserRepository.class).save(created);
+                });
+        String cookie = context.getBean(JwtUtils.class)
+                .generateJwtCookie(CustomUserDetails.build(user))
+                .getValue();
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/api/v1/getAllPlayers");
+        authenticatedRequest.setCookies(new Cookie(COOKIE_NAME, cookie));
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/v1/getAllPlayers");
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws ServletException, IOException {
+        return filter(authenticatedRequest);
+    }
+
+    @Benchmark
+    public Authentication anonymousRequest() throws ServletException, IOException {
+        return filter(anonymousRequest);
+    }
+
+    private Authentication filter(MockHttpServletRequest request) throws ServletException, IOException {
+        try {
+            filter.doFilter(request, response, chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.ersandev.nbazone.benchmark;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ersandev.nbazone.security.jwt.JwtUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// "legacy" metotlar JwtUtils'in eski halini (her çağrıda key decode + yeni parser) birebir taklit eder,
+// "precomputed" metotlar ise bugünkü JwtUtils'i çağırır.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private static final String SECRET = "mySecretKey8863179452aopsgjnspkmndfsoufekldnwjgd52gf2opfn545g29wtdnjh";
+    private static final int EXPIRATION_MS = 300000000;
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils(SECRET, EXPIRATION_MS, "springBootnbazone", false, event -> { },
+                new SimpleMeterRegistry());
+        token = jwtUtils.generateTokenFromUsername("benchmark-user");
+    }
+
+    @Benchmark
+    public String signLegacy() {
+        return Jwts.builder()
+                .subject("benchmark-user")
+                .issuedAt(new Date())
+                .expiration(new Date((new Date()).getTime() + EXPIRATION_MS))
+                .signWith(legacyKey())
+                .compact();
+    }
+
+    @Benchmark
+    public String signPrecomputed() {
+        return jwtUtils.generateTokenFromUsername("benchmark-user");
+    }
+
+    @Benchmark
+    public String verifyLegacy() {
+        // eski filtre akışı: validateJwtToken + getUserNameFromJwtToken, yani iki parse
+        Jwts.parser().verifyWith(legacyKey()).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(legacyKey()).build()
+                .parseSignedClaims(token)
+                .getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String verifyPrecomputed() {
+        return jwtUtils.parseJwtToken(token).claims().getSubject();
+    }
+
+    private static SecretKey legacyKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+}
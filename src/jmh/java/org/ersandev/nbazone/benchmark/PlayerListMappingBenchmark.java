@@ -0,0 +1,57 @@
+package org.ersandev.nbazone.benchmark;
+
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.mapper.EntityMapper;
+import org.ersandev.nbazone.mapper.PlayerMapperImpl;
+import org.ersandev.nbazone.player.Player;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Servisteki liste dönüşümünün (players.stream().map(entityToDto).toList()) maliyeti, liste boyutuna göre
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerListMappingBenchmark {
+
+    @Param({"100", "1000", "100000"})
+    public int size;
+
+    private EntityMapper entityMapper;
+    private List<Player> players;
+
+    @Setup
+    public void setUp() {
+        entityMapper = new EntityMapper(new ModelMapper(), new PlayerMapperImpl());
+        players = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String team = BenchmarkContext.TEAMS[i % BenchmarkContext.TEAMS.length];
+            players.add(new Player((long) i, "Player " + i, team, 19 + i % 20, 32.5, 19.1, 49.6, 29.7, 69.7,
+                    6.6, 10.3, 4.9, 1.1, i % 3 == 0 ? null : 0.8, 0L, team.toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    @Benchmark
+    public List<PlayerResponseDto> entityToDtoList() {
+        return players.stream()
+                .map(player -> entityMapper.entityToDto(player, PlayerResponseDto.class))
+                .toList();
+    }
+}
@@ -0,0 +1,122 @@
+package org.ersandev.nbazone.benchmark;
+
+import org.ersandev.nbazone.config.CacheConfig;
+import org.ersandev.nbazone.dto.PlayerBatchRequestDto;
+import org.ersandev.nbazone.dto.PlayerBatchResponseDto;
+import org.ersandev.nbazone.dto.PlayerCursorPageDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.player.PlayerExportService;
+import org.ersandev.nbazone.player.PlayerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// PlayerService okuma yolları, gerçek Spring bean'leri (proxy, cache, transaction) ve H2 ile.
+// "Uncached" metotlar her çağrıda ilgili cache'i boşaltır, yani her seferinde veritabanına gidilir.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerServiceBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    @Param({"false", "true"})
+    public boolean statsEngine;
+
+    private ConfigurableApplicationContext context;
+    private PlayerService playerService;
+    private PlayerExportService exportService;
+    private CacheManager cacheManager;
+    private PlayerBatchRequestDto batchRequest;
+    private String secondSliceCursor;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("spring.app.statsEngineEnabled=" + statsEngine);
+        BenchmarkContext.seedPlayers(context, rows);
+        playerService = context.getBean(PlayerService.class);
+        exportService = context.getBean(PlayerExportService.class);
+        cacheManager = context.getBean(CacheManager.class);
+
+        batchRequest = new PlayerBatchRequestDto();
+        batchRequest.setIds(List.of(1L, 2L, 3L, 50L, 500L, 999_999L));
+        batchRequest.setNames(List.of("Player 1", "Player 10", "Nobody"));
+        batchRequest.setTeams(List.of("LAL", "BOS"));
+        secondSliceCursor = playerService.scrollPlayersByPoint(null, 20, "desc").getNextCursor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PlayerResponseDto> getPlayersCached() {
+        return playerService.getPlayers();
+    }
+
+    @Benchmark
+    public List<PlayerResponseDto> getPlayersUncached() {
+        cacheManager.getCache(CacheConfig.PLAYERS_CACHE).clear();
+        return playerService.getPlayers();
+    }
+
+    @Benchmark
+    public List<PlayerResponseDto> getPlayersFromTeamUncached() {
+        cacheManager.getCache(CacheConfig.PLAYERS_BY_TEAM_CACHE).clear();
+        return playerService.getPlayersFromTeam("LAL");
+    }
+
+    @Benchmark
+    public List<PlayerResponseDto> getPlayersByName() {
+        return playerService.getPlayersByName("Player 500");
+    }
+
+    @Benchmark
+    public List<PlayerResponseDto> topTenPlayersForFilterUncached() {
+        cacheManager.getCache(CacheConfig.TOP_TEN_PLAYERS_CACHE).clear();
+        return playerService.topTenPlayersForFilter("reb");
+    }
+
+    @Benchmark
+    public Page<PlayerResponseDto> sortPlayersByPointDeepPage() {
+        return playerService.sortPlayersByPoint(rows / 20 - 1, 20, "desc");
+    }
+
+    @Benchmark
+    public PlayerCursorPageDto scrollPlayersByPoint() {
+        return playerService.scrollPlayersByPoint(secondSliceCursor, 20, "desc");
+    }
+
+    @Benchmark
+    public PlayerBatchResponseDto getPlayersBatchUncached() {
+        cacheManager.getCache(CacheConfig.PLAYERS_BY_TEAM_CACHE).clear();
+        return playerService.getPlayersBatch(batchRequest);
+    }
+
+    @Benchmark
+    public void exportNdjson() throws IOException {
+        exportService.writeNdjson(OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,69 @@
+package org.ersandev.nbazone.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USER_DETAILS_CACHE = "userDetails";
+    public static final String PLAYERS_CACHE = "players";
+    public static final String PLAYERS_BY_TEAM_CACHE = "playersByTeam";
+    public static final String PLAYERS_BY_AGE_CACHE = "playersByAge";
+    public static final String TOP_TEN_PLAYERS_CACHE = "topTenPlayers";
+
+    public static final String ALL_PLAYERS_KEY = "all";
+
+    //Takım anahtarı: cache'ler, toplu okuma, eviction ve bellek içi takım indeksleri aynı anahtarı üretmeli.
+    //Locale.ROOT şart, varsayılan locale tr iken "MIA".toLowerCase() "mıa" olur. Takımı olmayan oyuncular "" altında toplanır
+    public static String teamKey(String team) {
+        return team == null ? "" : team.trim().toLowerCase(Locale.ROOT);
+    }
+
+    //top 10 filtre anahtarı (reb, ast, min ...): @Cacheable ve PlayerResponseCache aynı anahtarı üretmeli
+    public static String filterKey(String filter) {
+        return filter.toLowerCase(Locale.ROOT);
+    }
+
+    //UserDetails cache anahtarı: @Cacheable ve UserCacheInvalidator aynı anahtarı üretmeli; teamKey gibi Locale.ROOT
+    public static String userKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    @Bean
+    public CacheManager cacheManager(@Value("${spring.app.userDetailsCacheTtlMs}") long userDetailsTtlMs,
+                                     @Value("${spring.app.userDetailsCacheMaxSize}") long userDetailsMaxSize,
+                                     @Value("${spring.app.playerCacheTtlMs}") long playerTtlMs,
+                                     @Value("${spring.app.playerCacheMaxSize}") long playerMaxSize) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        //sadece burada tanımlanan cache'ler kullanılabilir, isimsiz/sınırsız cache oluşturulmaz
+        cacheManager.setCacheNames(List.of());
+        cacheManager.setAllowNullValues(false);
+
+        cacheManager.registerCustomCache(USER_DETAILS_CACHE, Caffeine.newBuilder()
+                .maximumSize(userDetailsMaxSize)
+                .expireAfterWrite(Duration.ofMillis(userDetailsTtlMs))
+                .recordStats()
+                .build());
+
+        //oyuncu cache'leri yazma işlemlerinde PlayerCacheEvictor ile temizlenir, TTL sadece servis dışı yazmalar için
+        for (String playerCache : List.of(PLAYERS_CACHE, PLAYERS_BY_TEAM_CACHE, PLAYERS_BY_AGE_CACHE, TOP_TEN_PLAYERS_CACHE)) {
+            cacheManager.registerCustomCache(playerCache, Caffeine.newBuilder()
+                    .maximumSize(playerMaxSize)
+                    .expireAfterWrite(Duration.ofMillis(playerTtlMs))
+                    .recordStats()
+                    .build());
+        }
+        return cacheManager;
+    }
+}
@@ -0,0 +1,15 @@
+package org.ersandev.nbazone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDto {
+
+    private int rank;
+    private double score;
+    private PlayerResponseDto player;
+}
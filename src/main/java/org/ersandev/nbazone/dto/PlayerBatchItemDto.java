@@ -0,0 +1,18 @@
+package org.ersandev.nbazone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+//key: istekteki değer (id, isim veya takım). Bulunamayan anahtarlar hata yerine found=false ve boş liste ile döner.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerBatchItemDto {
+
+    private String key;
+    private boolean found;
+    private List<PlayerResponseDto> players;
+}
@@ -0,0 +1,21 @@
+package org.ersandev.nbazone.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//Her liste isteğe bağlıdır; tekrar eden anahtarlar tek sorguda bir kez aranır
+@Data
+public class PlayerBatchRequestDto {
+
+    public static final int MAX_ITEMS = 100;
+
+    @Size(max = MAX_ITEMS)
+    private List<Long> ids = new ArrayList<>();
+    @Size(max = MAX_ITEMS)
+    private List<String> names = new ArrayList<>();
+    @Size(max = MAX_ITEMS)
+    private List<String> teams = new ArrayList<>();
+}
@@ -0,0 +1,18 @@
+package org.ersandev.nbazone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+//Her liste istekteki sırayla döner
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerBatchResponseDto {
+
+    private List<PlayerBatchItemDto> ids;
+    private List<PlayerBatchItemDto> names;
+    private List<PlayerBatchItemDto> teams;
+}
@@ -0,0 +1,19 @@
+package org.ersandev.nbazone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+//Keyset sayfalamanın cevabı: toplam sayı yoktur, devamı varsa nextCursor bir sonraki isteğe aynen gönderilir
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerCursorPageDto {
+
+    private List<PlayerResponseDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
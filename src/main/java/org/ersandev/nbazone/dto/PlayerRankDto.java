@@ -0,0 +1,22 @@
+package org.ersandev.nbazone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//value null ise oyuncunun bu istatistiği yoktur, rank ve percentile de null döner.
+//total: bu istatistiği dolu olan oyuncu sayısı
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerRankDto {
+
+    private Long playerId;
+    private String playerName;
+    private String team;
+    private String stat;
+    private Double value;
+    private Integer rank;
+    private Double percentile;
+    private int total;
+}
@@ -1,20 +1,24 @@
 package org.ersandev.nbazone.dto;
 
-import jakarta.persistence.Column;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
-import lombok.Builder;
 import lombok.Data;
 
 @Data
 public class PlayerRequestDto {
 
+    //sadece oyuncu eklenirken zorunlu olan alanlar; güncellemede null alan değişmez
+    public interface OnCreate {
+    }
+
     @NotBlank
     private String playerName;
     @NotBlank
     private String team;
+    @NotNull(groups = OnCreate.class)
     @Positive
-    private int age;
+    private Integer age;
     private Double min;
     private Double pts;
     private Double fgPercent;
@@ -25,4 +29,6 @@ public class PlayerRequestDto {
     private Double ast;
     private Double stl;
     private Double blk;
+    //isteğe bağlı: okunan version gönderilirse (ya da If-Match ile) güncelleme sadece satır o version'dayken yapılır
+    private Long version;
 }
@@ -23,6 +23,6 @@ public class PlayerResponseDto {
     private Double ast;
     private Double stl;
     private Double blk;
-
+    private Long version;
 
 }
@@ -0,0 +1,17 @@
+package org.ersandev.nbazone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//distance: 0 ise isim sorguyla başlıyor, büyükse bu kadar harf hatasıyla eşleşti
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerSearchResultDto {
+
+    private Long id;
+    private String playerName;
+    private String team;
+    private int distance;
+}
@@ -0,0 +1,21 @@
+package org.ersandev.nbazone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//count: istatistiği dolu olan oyuncu sayısı. Hiç değer yoksa diğer alanlar null döner.
+//minutesWeightedAverage: sum(değer * min) / sum(min), min'i de dolu olan oyuncular üzerinden
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatSummaryDto {
+
+    private int count;
+    private Double total;
+    private Double average;
+    private Double minutesWeightedAverage;
+    private Double min;
+    private Double max;
+    private Double stdDev;
+}
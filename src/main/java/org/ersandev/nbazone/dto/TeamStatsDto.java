@@ -0,0 +1,18 @@
+package org.ersandev.nbazone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+//stats: istatistik alan adı (pts, reb, ast, fgPercent ...) -> özet
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamStatsDto {
+
+    private String team;
+    private int players;
+    private Map<String, StatSummaryDto> stats;
+}
@@ -0,0 +1,7 @@
+package org.ersandev.nbazone.exceptions;
+
+public class InvalidCursorException extends RuntimeException{
+    public InvalidCursorException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.ersandev.nbazone.exceptions;
+
+public class InvalidLeaderboardQueryException extends RuntimeException{
+    public InvalidLeaderboardQueryException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.ersandev.nbazone.exceptions;
+
+public class PasswordHashingRejectedException extends RuntimeException{
+    public PasswordHashingRejectedException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.ersandev.nbazone.exceptions;
+
+public class UnknownStatException extends RuntimeException{
+    public UnknownStatException(String message){
+        super(message);
+    }
+}
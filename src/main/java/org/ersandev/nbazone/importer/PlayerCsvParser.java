@@ -0,0 +1,115 @@
+package org.ersandev.nbazone.importer;
+
+import org.ersandev.nbazone.player.Player;
+
+import java.util.List;
+
+//Nba_Stats.csv formatı: noktalı virgülle ayrılmış, başlık satırı
+//Player;Team;Age;Min;PTS;FG%;3P%;FT%;DREB;REB;AST;STL;BLK
+//Hatalı satırlarda IllegalArgumentException fırlatılır, mesajı hata raporuna olduğu gibi yazılır.
+final class PlayerCsvParser {
+
+    static final List<String> HEADER = List.of(
+            "Player", "Team", "Age", "Min", "PTS", "FG%", "3P%", "FT%", "DREB", "REB", "AST", "STL", "BLK");
+
+    private static final char SEPARATOR = ';';
+    private static final char BOM = '\uFEFF';
+
+    private PlayerCsvParser() {
+    }
+
+    static void checkHeader(String line) {
+        if (line == null) {
+            throw new IllegalArgumentException("File is empty");
+        }
+        String[] columns = split(stripBom(line));
+        boolean matches = columns.length == HEADER.size();
+        for (int i = 0; matches && i < columns.length; i++) {
+            matches = columns[i].trim().equalsIgnoreCase(HEADER.get(i));
+        }
+        if (!matches) {
+            throw new IllegalArgumentException("Unexpected header, expected " + String.join(";", HEADER));
+        }
+    }
+
+    static Player parseRow(String line) {
+        String[] fields = split(line);
+        if (fields.length != HEADER.size()) {
+            throw new IllegalArgumentException("Expected " + HEADER.size() + " columns but found " + fields.length);
+        }
+        Player player = new Player();
+        player.setPlayerName(requireText(fields[0], "Player"));
+        player.setTeam(requireText(fields[1], "Team"));
+        player.setAge(parseAge(fields[2]));
+        player.setMin(parseStat(fields[3], "Min"));
+        player.setPts(parseStat(fields[4], "PTS"));
+        player.setFgPercent(parseStat(fields[5], "FG%"));
+        player.setThreePPercent(parseStat(fields[6], "3P%"));
+        player.setFtPercent(parseStat(fields[7], "FT%"));
+        player.setDreb(parseStat(fields[8], "DREB"));
+        player.setReb(parseStat(fields[9], "REB"));
+        player.setAst(parseStat(fields[10], "AST"));
+        player.setStl(parseStat(fields[11], "STL"));
+        player.setBlk(parseStat(fields[12], "BLK"));
+        return player;
+    }
+
+    //String.split'in aksine sondaki boş kolonları da korur
+    private static String[] split(String line) {
+        int count = 1;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == SEPARATOR) {
+                count++;
+            }
+        }
+        String[] fields = new String[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = line.indexOf(SEPARATOR, start);
+            if (end < 0) {
+                end = line.length();
+            }
+            fields[i] = line.substring(start, end);
+            start = end + 1;
+        }
+        return fields;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == BOM ? line.substring(1) : line;
+    }
+
+    private static String requireText(String value, String column) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException(column + " must not be blank");
+        }
+        return trimmed;
+    }
+
+    private static int parseAge(String value) {
+        int age;
+        try {
+            age = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Age is not a number: '" + value + "'");
+        }
+        if (age <= 0) {
+            throw new IllegalArgumentException("Age must be positive");
+        }
+        return age;
+    }
+
+    //boş istatistik null olarak kaydedilir, formdan eklenen oyuncularla aynı
+    private static Double parseStat(String value, String column) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        try {
+            return Double.valueOf(trimmed);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " is not a number: '" + value + "'");
+        }
+    }
+}
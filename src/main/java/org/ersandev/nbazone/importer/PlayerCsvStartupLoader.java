@@ -0,0 +1,47 @@
+package org.ersandev.nbazone.importer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+
+//spring.app.playerCsvImportOnStartup=true ise uygulama açılırken spring.app.playerCsvImportPath'teki dosyayı yükler.
+//Upsert yaptığı için her açılışta tekrar çalışması güvenlidir.
+@Component
+@ConditionalOnProperty(name = "spring.app.playerCsvImportOnStartup", havingValue = "true")
+public class PlayerCsvStartupLoader implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerCsvStartupLoader.class);
+
+    private final PlayerImportService playerImportService;
+    private final ResourceLoader resourceLoader;
+    private final String importPath;
+
+    public PlayerCsvStartupLoader(PlayerImportService playerImportService,
+                                  ResourceLoader resourceLoader,
+                                  @Value("${spring.app.playerCsvImportPath}") String importPath) {
+        this.playerImportService = playerImportService;
+        this.resourceLoader = resourceLoader;
+        this.importPath = importPath;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        Resource resource = resourceLoader.getResource(importPath);
+        if (!resource.exists()) {
+            logger.warn("Player CSV {} not found, skipping startup import", importPath);
+            return;
+        }
+        try (InputStream inputStream = resource.getInputStream()) {
+            PlayerImportReport report = playerImportService.importCsv(inputStream);
+            report.errors().forEach(error ->
+                    logger.warn("Line {} ({}) skipped: {}", error.line(), error.playerName(), error.message()));
+        }
+    }
+}
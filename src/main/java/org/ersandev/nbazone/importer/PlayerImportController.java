@@ -0,0 +1,52 @@
+package org.ersandev.nbazone.importer;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/v1/admin/players")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class PlayerImportController {
+
+    private final PlayerImportService playerImportService;
+
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(summary = "Bulk import players from CSV", description = "Streams a Nba_Stats.csv formatted body and upserts players by name in JDBC batches.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, response contains per-row errors"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<PlayerImportReport> importPlayers(
+            @Parameter(description = "Semicolon separated CSV with header Player;Team;Age;Min;PTS;FG%;3P%;FT%;DREB;REB;AST;STL;BLK")
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(playerImportService.importCsv(body));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Bulk import players from an uploaded CSV file", description = "Same as the raw CSV import but accepts a multipart file upload.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, response contains per-row errors"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<PlayerImportReport> importPlayersFile(
+            @Parameter(description = "Nba_Stats.csv formatted file")
+            @RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            return ResponseEntity.ok(playerImportService.importCsv(inputStream));
+        }
+    }
+}
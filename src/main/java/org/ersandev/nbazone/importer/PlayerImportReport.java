@@ -0,0 +1,13 @@
+package org.ersandev.nbazone.importer;
+
+import java.util.List;
+
+//processedRows: başlık hariç okunan boş olmayan satır sayısı
+//errors en fazla PlayerImportService.MAX_REPORTED_ERRORS kadar tutulur, failedRows her zaman gerçek sayıdır
+public record PlayerImportReport(int processedRows, int upsertedRows, int failedRows,
+                                 List<RowError> errors, boolean errorsTruncated) {
+
+    //line: dosyadaki 1 tabanlı satır numarası (başlık 1. satır)
+    public record RowError(long line, String playerName, String message) {
+    }
+}
@@ -0,0 +1,164 @@
+package org.ersandev.nbazone.importer;
+
+import org.ersandev.nbazone.player.Player;
+import org.ersandev.nbazone.player.PlayersBulkChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+//Nba_Stats.csv formatındaki dosyaları satır satır okuyup player_stats tablosuna playerName'e göre upsert eder.
+//Dosya hiçbir zaman tamamen belleğe alınmaz, satırlar batchSize'lık parçalar halinde JDBC batch olarak yazılır.
+//rewriteBatchedStatements=true ile MySQL her batch'i tek bir çok satırlı INSERT olarak çalıştırır.
+@Service
+public class PlayerImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerImportService.class);
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    //player kolonu unique olduğu için aynı isimli oyuncu varsa satır güncellenir.
+    //version da artırılır ki import'tan önce okunmuş bir hal ile yapılan güncelleme 409 alsın.
+    private static final String UPSERT_SQL =
+            "INSERT INTO player_stats (player, team, age, min, pts, fg_percent, three_p_percent, ft_percent, " +
+            "dreb, reb, ast, stl, blk, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0) " +
+            "ON DUPLICATE KEY UPDATE team = VALUES(team), age = VALUES(age), min = VALUES(min), pts = VALUES(pts), " +
+            "fg_percent = VALUES(fg_percent), three_p_percent = VALUES(three_p_percent), " +
+            "ft_percent = VALUES(ft_percent), dreb = VALUES(dreb), reb = VALUES(reb), ast = VALUES(ast), " +
+            "stl = VALUES(stl), blk = VALUES(blk), version = COALESCE(version, 0) + 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public PlayerImportService(JdbcTemplate jdbcTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${spring.app.playerImportBatchSize:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    public PlayerImportReport importCsv(InputStream inputStream) throws IOException {
+        ImportRun run = new ImportRun();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        try {
+            PlayerCsvParser.checkHeader(reader.readLine());
+        } catch (IllegalArgumentException e) {
+            run.fail(1, null, e.getMessage());
+            return run.report();
+        }
+
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+        long lineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            run.processedRows++;
+            try {
+                batch.add(new PendingRow(lineNumber, PlayerCsvParser.parseRow(line)));
+            } catch (IllegalArgumentException e) {
+                run.fail(lineNumber, null, e.getMessage());
+                continue;
+            }
+            if (batch.size() == batchSize) {
+                writeBatch(batch, run);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, run);
+        }
+
+        if (run.upsertedRows > 0) {
+            eventPublisher.publishEvent(new PlayersBulkChangedEvent(run.upsertedRows));
+        }
+        logger.info("Player CSV import finished: {} rows processed, {} upserted, {} failed",
+                run.processedRows, run.upsertedRows, run.failedRows);
+        return run.report();
+    }
+
+    //batch başarısız olursa hangi satırın bozuk olduğunu bulmak için satırlar tek tek tekrar denenir
+    private void writeBatch(List<PendingRow> batch, ImportRun run) {
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(),
+                    (statement, row) -> bind(statement, row.player()));
+            run.upsertedRows += batch.size();
+        } catch (DataAccessException batchFailure) {
+            logger.warn("Batch of {} rows failed, retrying row by row: {}", batch.size(),
+                    batchFailure.getMostSpecificCause().getMessage());
+            for (PendingRow row : batch) {
+                try {
+                    jdbcTemplate.update(UPSERT_SQL, statement -> bind(statement, row.player()));
+                    run.upsertedRows++;
+                } catch (DataAccessException e) {
+                    run.fail(row.line(), row.player().getPlayerName(), e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement statement, Player player) throws SQLException {
+        statement.setString(1, player.getPlayerName());
+        statement.setString(2, player.getTeam());
+        statement.setInt(3, player.getAge());
+        setStat(statement, 4, player.getMin());
+        setStat(statement, 5, player.getPts());
+        setStat(statement, 6, player.getFgPercent());
+        setStat(statement, 7, player.getThreePPercent());
+        setStat(statement, 8, player.getFtPercent());
+        setStat(statement, 9, player.getDreb());
+        setStat(statement, 10, player.getReb());
+        setStat(statement, 11, player.getAst());
+        setStat(statement, 12, player.getStl());
+        setStat(statement, 13, player.getBlk());
+    }
+
+    private static void setStat(PreparedStatement statement, int index, Double value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.DOUBLE);
+        } else {
+            statement.setDouble(index, value);
+        }
+    }
+
+    private record PendingRow(long line, Player player) {
+    }
+
+    private static final class ImportRun {
+        private int processedRows;
+        private int upsertedRows;
+        private int failedRows;
+        private final List<PlayerImportReport.RowError> errors = new ArrayList<>();
+
+        void fail(long line, String playerName, String message) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new PlayerImportReport.RowError(line, playerName, message));
+            }
+        }
+
+        PlayerImportReport report() {
+            return new PlayerImportReport(processedRows, upsertedRows, failedRows,
+                    List.copyOf(errors), failedRows > errors.size());
+        }
+    }
+}
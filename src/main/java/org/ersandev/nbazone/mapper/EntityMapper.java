@@ -1,23 +1,38 @@
 package org.ersandev.nbazone.mapper;
 
-import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.player.Player;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
+//Player dönüşümleri üretilmiş PlayerMapper'a gider, diğer tipler için ModelMapper kullanılmaya devam eder
 @Component
 public class EntityMapper {
 
     private final ModelMapper modelMapper;
+    private final PlayerMapper playerMapper;
 
-    public EntityMapper(ModelMapper modelMapper) {
+    public EntityMapper(ModelMapper modelMapper, PlayerMapper playerMapper) {
         this.modelMapper = modelMapper;
+        this.playerMapper = playerMapper;
     }
 
     public <D,E> E dtoToEntity(D dto, Class<E> entityClass) {
+        if (entityClass == Player.class && dto instanceof PlayerRequestDto playerRequestDto) {
+            return entityClass.cast(playerMapper.toEntity(playerRequestDto));
+        }
         return modelMapper.map(dto, entityClass);
     }
 
     public <E,D> D entityToDto(E entity, Class<D> dtoClass) {
+        if (dtoClass == PlayerResponseDto.class && entity instanceof Player player) {
+            return dtoClass.cast(playerMapper.toResponseDto(player));
+        }
         return modelMapper.map(entity, dtoClass);
     }
+
+    public void updateEntityFromDto(PlayerRequestDto playerRequestDto, Player player) {
+        playerMapper.updateEntity(playerRequestDto, player);
+    }
 }
@@ -0,0 +1,30 @@
+package org.ersandev.nbazone.mapper;
+
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.player.Player;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+//MapStruct ile derleme zamanında üretilen mapper; reflection kullanmaz, sadece getter/setter çağırır
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface PlayerMapper {
+
+    PlayerResponseDto toResponseDto(Player player);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "teamKey", ignore = true)
+    Player toEntity(PlayerRequestDto playerRequestDto);
+
+    //kısmi güncelleme: dto'da null olan alanlar entity'de olduğu gibi kalır
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "teamKey", ignore = true)
+    void updateEntity(PlayerRequestDto playerRequestDto, @MappingTarget Player player);
+}
@@ -0,0 +1,201 @@
+package org.ersandev.nbazone.player;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.ersandev.nbazone.dto.PlayerBatchRequestDto;
+import org.ersandev.nbazone.dto.PlayerBatchResponseDto;
+import org.ersandev.nbazone.dto.PlayerCursorPageDto;
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+//PlayerService'in her metodunu "player.service" timer'ı ile ölçer (method tag'i metot adıdır).
+//Timer'lar açılışta bir kez kaydedilir; çağrı başına tag dizisi, lambda ya da Timer.Sample oluşturulmaz.
+//Cache proxy'sinin dışında durduğu için cache'ten dönen cevaplar da istemcinin gördüğü süreyle ölçülür.
+@Service
+@Primary
+public class MeteredPlayerService implements PlayerService {
+
+    private static final String METRIC_NAME = "player.service";
+
+    private final PlayerServiceImpl delegate;
+
+    private final Timer getPlayersTimer;
+    private final Timer getPlayersFromTeamTimer;
+    private final Timer getPlayersByNameTimer;
+    private final Timer getPlayersByAgeTimer;
+    private final Timer sortPlayersByAgeTimer;
+    private final Timer sortPlayersByPointTimer;
+    private final Timer scrollPlayersByAgeTimer;
+    private final Timer scrollPlayersByPointTimer;
+    private final Timer topTenPlayersForFilterTimer;
+    private final Timer getPlayersBatchTimer;
+    private final Timer addPlayerTimer;
+    private final Timer updatePlayerTimer;
+    private final Timer deletePlayerTimer;
+
+    public MeteredPlayerService(PlayerServiceImpl delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.getPlayersTimer = timer(meterRegistry, "getPlayers");
+        this.getPlayersFromTeamTimer = timer(meterRegistry, "getPlayersFromTeam");
+        this.getPlayersByNameTimer = timer(meterRegistry, "getPlayersByName");
+        this.getPlayersByAgeTimer = timer(meterRegistry, "getPlayersByAge");
+        this.sortPlayersByAgeTimer = timer(meterRegistry, "sortPlayersByAge");
+        this.sortPlayersByPointTimer = timer(meterRegistry, "sortPlayersByPoint");
+        this.scrollPlayersByAgeTimer = timer(meterRegistry, "scrollPlayersByAge");
+        this.scrollPlayersByPointTimer = timer(meterRegistry, "scrollPlayersByPoint");
+        this.topTenPlayersForFilterTimer = timer(meterRegistry, "topTenPlayersForFilter");
+        this.getPlayersBatchTimer = timer(meterRegistry, "getPlayersBatch");
+        this.addPlayerTimer = timer(meterRegistry, "addPlayer");
+        this.updatePlayerTimer = timer(meterRegistry, "updatePlayer");
+        this.deletePlayerTimer = timer(meterRegistry, "deletePlayer");
+    }
+
+    @Override
+    public List<PlayerResponseDto> getPlayers() {
+        long start = System.nanoTime();
+        try {
+            return delegate.getPlayers();
+        } finally {
+            record(getPlayersTimer, start);
+        }
+    }
+
+    @Override
+    public List<PlayerResponseDto> getPlayersFromTeam(String teamName) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getPlayersFromTeam(teamName);
+        } finally {
+            record(getPlayersFromTeamTimer, start);
+        }
+    }
+
+    @Override
+    public List<PlayerResponseDto> getPlayersByName(String playerName) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getPlayersByName(playerName);
+        } finally {
+            record(getPlayersByNameTimer, start);
+        }
+    }
+
+    @Override
+    public List<PlayerResponseDto> getPlayersByAge(int age) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getPlayersByAge(age);
+        } finally {
+            record(getPlayersByAgeTimer, start);
+        }
+    }
+
+    @Override
+    public Page<PlayerResponseDto> sortPlayersByAge(int page, int size, String direction) {
+        long start = System.nanoTime();
+        try {
+            return delegate.sortPlayersByAge(page, size, direction);
+        } finally {
+            record(sortPlayersByAgeTimer, start);
+        }
+    }
+
+    @Override
+    public Page<PlayerResponseDto> sortPlayersByPoint(int page, int size, String direction) {
+        long start = System.nanoTime();
+        try {
+            return delegate.sortPlayersByPoint(page, size, direction);
+        } finally {
+            record(sortPlayersByPointTimer, start);
+        }
+    }
+
+    @Override
+    public PlayerCursorPageDto scrollPlayersByAge(String cursor, int size, String direction) {
+        long start = System.nanoTime();
+        try {
+            return delegate.scrollPlayersByAge(cursor, size, direction);
+        } finally {
+            record(scrollPlayersByAgeTimer, start);
+        }
+    }
+
+    @Override
+    public PlayerCursorPageDto scrollPlayersByPoint(String cursor, int size, String direction) {
+        long start = System.nanoTime();
+        try {
+            return delegate.scrollPlayersByPoint(cursor, size, direction);
+        } finally {
+            record(scrollPlayersByPointTimer, start);
+        }
+    }
+
+    @Override
+    public List<PlayerResponseDto> topTenPlayersForFilter(String filter) {
+        long start = System.nanoTime();
+        try {
+            return delegate.topTenPlayersForFilter(filter);
+        } finally {
+            record(topTenPlayersForFilterTimer, start);
+        }
+    }
+
+    @Override
+    public PlayerBatchResponseDto getPlayersBatch(PlayerBatchRequestDto request) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getPlayersBatch(request);
+        } finally {
+            record(getPlayersBatchTimer, start);
+        }
+    }
+
+    @Override
+    public PlayerResponseDto addPlayer(PlayerRequestDto playerRequestDto) {
+        long start = System.nanoTime();
+        try {
+            return delegate.addPlayer(playerRequestDto);
+        } finally {
+            record(addPlayerTimer, start);
+        }
+    }
+
+    @Override
+    public OptionalLong updatePlayer(Long id, PlayerRequestDto playerRequestDto) {
+        long start = System.nanoTime();
+        try {
+            return delegate.updatePlayer(id, playerRequestDto);
+        } finally {
+            record(updatePlayerTimer, start);
+        }
+    }
+
+    @Override
+    public void deletePlayer(Long id) {
+        long start = System.nanoTime();
+        try {
+            delegate.deletePlayer(id);
+        } finally {
+            record(deletePlayerTimer, start);
+        }
+    }
+
+    private static void record(Timer timer, long start) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    //Prometheus tarafında histogram_quantile ile p50/p95/p99 hesaplanabilsin diye bucket'lar yayınlanır
+    private static Timer timer(MeterRegistry meterRegistry, String method) {
+        return Timer.builder(METRIC_NAME)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -1,13 +1,26 @@
 package org.ersandev.nbazone.player;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "player_stats")
+//InnoDB ikincil indekslerin sonuna zaten primary key'i ekler, id burada keyset sorgularının
+//(değer, id) sıralamasını açıkça belgelemek için yazıldı.
+//Top 10 istatistik kolonlarının tek kolonlu indeksleri ORDER BY kolon DESC LIMIT 10'u indeksin sonundan okur.
+@Table(name = "player_stats", indexes = {
+        @Index(name = "idx_player_stats_pts_id", columnList = "pts, id"),
+        @Index(name = "idx_player_stats_age_id", columnList = "age, id"),
+        @Index(name = "idx_player_stats_team_key", columnList = "team_key"),
+        @Index(name = "idx_player_stats_dreb", columnList = "dreb"),
+        @Index(name = "idx_player_stats_reb", columnList = "reb"),
+        @Index(name = "idx_player_stats_ast", columnList = "ast"),
+        @Index(name = "idx_player_stats_stl", columnList = "stl"),
+        @Index(name = "idx_player_stats_blk", columnList = "blk")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -35,4 +48,14 @@ public class Player {
     private Double ast;
     private Double stl;
     private Double blk;
+    //iyimser kilit: her UPDATE version'ı bir artırır, WHERE version = ? tutmazsa güncelleme kaybolmaz, 409 döner
+    @Version
+    private Long version;
+    //takım aramaları için küçük harfe çevrilmiş takım: LOWER(team) = ? indeks kullanamaz, team_key = ? kullanır.
+    //Değeri veritabanı team'den üretir; JPA insert'leri, toplu UPDATE ve CSV import'u ayrıca yazmak zorunda kalmaz,
+    //ddl-auto=update ile eklendiğinde mevcut satırlar da anında dolar.
+    @Setter(AccessLevel.NONE)
+    @Column(name = "team_key", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) generated always as (lower(team))")
+    private String teamKey;
 }
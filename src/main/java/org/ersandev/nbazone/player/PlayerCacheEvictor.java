@@ -0,0 +1,69 @@
+package org.ersandev.nbazone.player;
+
+import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+//Bir oyuncu değiştiğinde sadece etkilenen cache anahtarlarını siler: tüm oyuncular listesi, bütün top 10 listeleri,
+//eklemede yeni oyuncunun takım ve yaş anahtarları; güncelleme/silmede takım ve yaş cache'leri.
+//Transaction varsa commit'ten sonra çalışır, böylece cache eski veriyle tekrar dolmaz.
+//Sıra tek bir listener içinde sabitlenir: Spring cache'leri -> PlayerResponseCache byte'ları -> PlayerDataVersion.
+//Versiyon temizlikten önce artsaydı arada gelen bir okuma cache'teki eski veriyi yeni ETag ile gönderirdi (ve byte
+//cache'ine yeni versiyonla yazardı); istemci de bir sonraki yazmaya kadar o eski gövde için 304 alırdı.
+//Top 10 cache'i bellek içi istatistik motorundan dolduğu için motor bu listener'dan önce güncellenir (READ_MODEL_ORDER).
+@Component
+@RequiredArgsConstructor
+public class PlayerCacheEvictor {
+
+    //cache'lerin okuduğu bellek içi modeller (PlayerStatsEngine) bu sırayla, temizlikten önce güncellenir
+    public static final int READ_MODEL_ORDER = 0;
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    private final CacheManager cacheManager;
+    private final PlayerResponseCache responseCache;
+    private final PlayerDataVersion dataVersion;
+
+    @Order(ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        cache(CacheConfig.PLAYERS_CACHE).evict(CacheConfig.ALL_PLAYERS_KEY);
+        cache(CacheConfig.TOP_TEN_PLAYERS_CACHE).clear();
+        if (event.after() != null) {
+            evictTeamAndAge(event.after());
+        } else {
+            //güncelleme/silmede eski takım ve yaş bilinmez (satır önceden okunmaz), bu iki cache tamamen boşaltılır
+            cache(CacheConfig.PLAYERS_BY_TEAM_CACHE).clear();
+            cache(CacheConfig.PLAYERS_BY_AGE_CACHE).clear();
+        }
+        responseCache.invalidateAll();
+        dataVersion.increment();
+    }
+
+    //toplu importta hangi takım/yaşların değiştiğini tek tek takip etmek yerine player cache'leri tamamen boşaltılır
+    @Order(ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayersBulkChanged(PlayersBulkChangedEvent event) {
+        cache(CacheConfig.PLAYERS_CACHE).clear();
+        cache(CacheConfig.PLAYERS_BY_TEAM_CACHE).clear();
+        cache(CacheConfig.PLAYERS_BY_AGE_CACHE).clear();
+        cache(CacheConfig.TOP_TEN_PLAYERS_CACHE).clear();
+        responseCache.invalidateAll();
+        dataVersion.increment();
+    }
+
+    private void evictTeamAndAge(Player player) {
+        if (player.getTeam() != null) {
+            cache(CacheConfig.PLAYERS_BY_TEAM_CACHE).evict(CacheConfig.teamKey(player.getTeam()));
+        }
+        cache(CacheConfig.PLAYERS_BY_AGE_CACHE).evict(player.getAge());
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+}
@@ -0,0 +1,58 @@
+package org.ersandev.nbazone.player;
+
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+
+//PlayerServiceImpl'deki her yazma işleminden sonra yayınlanır. Yazmalar satırı önceden okumaz, bu yüzden event
+//değişiklikten önceki hali taşımaz; eski hale ihtiyacı olan dinleyiciler kendi kopyalarına bakar.
+//after: eklenen oyuncunun tam hali. changes: güncellemede istekte dolu gelen alanlar; version alanı yeni version'dır
+//(istek version'sız geldiyse null). Dinleyiciler changes'i PlayerMapper.updateEntity gibi kendi kopyalarına uygular.
+//İkisi de null ise oyuncu silinmiştir. İkisi de kopyadır, dinleyiciler managed entity'yi ya da isteği değiştiremez.
+public record PlayerChangedEvent(Long playerId, Player after, PlayerRequestDto changes) {
+
+    public static PlayerChangedEvent added(Player player) {
+        return new PlayerChangedEvent(player.getId(), copyOf(player), null);
+    }
+
+    public static PlayerChangedEvent updated(Long playerId, PlayerRequestDto changes, Long newVersion) {
+        PlayerRequestDto copy = copyOf(changes);
+        copy.setVersion(newVersion);
+        return new PlayerChangedEvent(playerId, null, copy);
+    }
+
+    public static PlayerChangedEvent deleted(Long playerId) {
+        return new PlayerChangedEvent(playerId, null, null);
+    }
+
+    public boolean isDelete() {
+        return after == null && changes == null;
+    }
+
+    public static Player copyOf(Player player) {
+        if (player == null) {
+            return null;
+        }
+        return new Player(player.getId(), player.getPlayerName(), player.getTeam(), player.getAge(),
+                player.getMin(), player.getPts(), player.getFgPercent(), player.getThreePPercent(),
+                player.getFtPercent(), player.getDreb(), player.getReb(), player.getAst(),
+                player.getStl(), player.getBlk(), player.getVersion(), player.getTeamKey());
+    }
+
+    private static PlayerRequestDto copyOf(PlayerRequestDto changes) {
+        PlayerRequestDto copy = new PlayerRequestDto();
+        copy.setPlayerName(changes.getPlayerName());
+        copy.setTeam(changes.getTeam());
+        copy.setAge(changes.getAge());
+        copy.setMin(changes.getMin());
+        copy.setPts(changes.getPts());
+        copy.setFgPercent(changes.getFgPercent());
+        copy.setThreePPercent(changes.getThreePPercent());
+        copy.setFtPercent(changes.getFtPercent());
+        copy.setDreb(changes.getDreb());
+        copy.setReb(changes.getReb());
+        copy.setAst(changes.getAst());
+        copy.setStl(changes.getStl());
+        copy.setBlk(changes.getBlk());
+        copy.setVersion(changes.getVersion());
+        return copy;
+    }
+}
@@ -2,19 +2,36 @@ package org.ersandev.nbazone.player;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
 import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.dto.PlayerBatchRequestDto;
+import org.ersandev.nbazone.dto.PlayerBatchResponseDto;
+import org.ersandev.nbazone.dto.PlayerCursorPageDto;
 import org.ersandev.nbazone.dto.PlayerRequestDto;
 import org.ersandev.nbazone.dto.PlayerResponseDto;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.OptionalLong;
 
 @SecurityRequirement(name = "bearerAuth")
 @RestController
@@ -22,29 +39,86 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PlayerController {
 
+    //gzip ve identity gövdeleri farklı temsil olduğu için strong ETag'leri de farklı olmalı
+    private static final String GZIP_ETAG_SUFFIX = "gzip";
+
     private final PlayerService playerService;
+    private final PlayerExportService playerExportService;
+    private final PlayerDataVersion playerDataVersion;
+    private final PlayerResponseCache responseCache;
 
     @GetMapping("/getAllPlayers")
     @Operation(summary = "Get all players", description = "Fetches all players from the database.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Players fetched successfully"),
+            @ApiResponse(responseCode = "304", description = "Players did not change since the given ETag"),
+            @ApiResponse(responseCode = "500",description = "Internal server error")
+    })
+    public ResponseEntity<List<PlayerResponseDto>> getPlayers(WebRequest webRequest){
+        String etag = playerDataVersion.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return conditional(etag).body(playerService.getPlayers());
+    }
+
+    @GetMapping("/players/export")
+    @Operation(summary = "Export all players", description = "Streams every player row as NDJSON (default) or as a JSON array without buffering the whole table.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Players streamed successfully"),
+            @ApiResponse(responseCode = "500",description = "Internal server error")
+    })
+    public void exportPlayers(
+            @Parameter(description = "Output format: ndjson or json", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (format.equalsIgnoreCase("json")) {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            playerExportService.writeJsonArray(response.getOutputStream());
+        } else {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            playerExportService.writeNdjson(response.getOutputStream());
+        }
+    }
+
+    @PostMapping("/players/batch")
+    @Operation(summary = "Batch lookup players", description = "Resolves lists of player ids, names and teams in one request. Unknown keys are returned with found=false instead of an error.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed"),
+            @ApiResponse(responseCode = "400", description = "More than 100 keys in a list"),
             @ApiResponse(responseCode = "500",description = "Internal server error")
     })
-    public ResponseEntity<List<PlayerResponseDto>> getPlayers(){
-        return ResponseEntity.ok(playerService.getPlayers());
+    public ResponseEntity<PlayerBatchResponseDto> getPlayersBatch(
+            @Parameter(description = "Lists of ids, names and teams to resolve")
+            @RequestBody @Valid PlayerBatchRequestDto request){
+        return ResponseEntity.ok(playerService.getPlayersBatch(request));
     }
 
     @GetMapping("/team/{team}")
     @Operation(summary = "Get players by team",description = "Fetch players by their team name")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200",description = "Players fetched successfully"),
+            @ApiResponse(responseCode = "200",description = "Players fetched successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = PlayerResponseDto.class)))),
+            @ApiResponse(responseCode = "304", description = "Players did not change since the given ETag"),
             @ApiResponse(responseCode = "404",description = "Team not found"),
             @ApiResponse(responseCode = "500",description = "Internal server error")
     })
-    public ResponseEntity<List<PlayerResponseDto>> getPlayersByTeam(
+    public ResponseEntity<?> getPlayersByTeam(
             @Parameter(description = "Name of the team to fetch players for", example = "Lakers")
-            @PathVariable String team){
-        return ResponseEntity.ok(playerService.getPlayersFromTeam(team));
+            @PathVariable String team,
+            WebRequest webRequest){
+        boolean gzip = responseCache.isEnabled() && acceptsGzip(webRequest);
+        String etag = playerDataVersion.etag(gzip ? GZIP_ETAG_SUFFIX : null);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        if (responseCache.isEnabled()) {
+            PlayerResponseCache.EncodedResponse encoded = responseCache.get(PlayerResponseCache.TEAM, team,
+                    () -> playerService.getPlayersFromTeam(team));
+            return responseCache.toResponse(conditional(etag), encoded, gzip);
+        }
+        return conditional(etag).body(playerService.getPlayersFromTeam(team));
     }
 
     @GetMapping("/name/{name}")
@@ -104,18 +178,64 @@ public class PlayerController {
         return ResponseEntity.ok(playerService.sortPlayersByPoint(page, size, direction));
     }
 
+    @GetMapping("/age/scroll")
+    @Operation(summary = "Scroll players by age", description = "Keyset pagination on (age, id). Pass the returned nextCursor to fetch the following slice; no total count is computed.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",description = "Players fetched successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "500",description = "Internal server error")
+    })
+    public ResponseEntity<PlayerCursorPageDto> scrollPlayersByAge(
+            @Parameter(description = "Cursor from the previous response, empty for the first slice")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Slice size", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort direction (asc/desc)", example = "asc")
+            @RequestParam(defaultValue = "asc") String direction){
+        return ResponseEntity.ok(playerService.scrollPlayersByAge(cursor, size, direction));
+    }
+
+    @GetMapping("/point/scroll")
+    @Operation(summary = "Scroll players by point", description = "Keyset pagination on (pts, id). Pass the returned nextCursor to fetch the following slice; no total count is computed.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Players sorted successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<PlayerCursorPageDto> scrollPlayersByPoint(
+            @Parameter(description = "Cursor from the previous response, empty for the first slice")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Slice size", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort direction (asc/desc)", example = "desc")
+            @RequestParam(defaultValue = "asc") String direction){
+        return ResponseEntity.ok(playerService.scrollPlayersByPoint(cursor, size, direction));
+    }
+
     @GetMapping("/top10/{filter}")
     @Operation(summary = "Get top ten players by filter", description = "Get top 10 players based on a specific filter")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Top 10 players fetched successfully"),
+            @ApiResponse(responseCode = "200", description = "Top 10 players fetched successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = PlayerResponseDto.class)))),
+            @ApiResponse(responseCode = "304", description = "Players did not change since the given ETag"),
             @ApiResponse(responseCode = "400", description = "Invalid filter provided"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<PlayerResponseDto>> topTenPlayersForFilter(
+    public ResponseEntity<?> topTenPlayersForFilter(
             @Parameter(description = "Add a filter to sort top ten players by given filter",example = "reb")
-            @PathVariable String filter){
-
-        return ResponseEntity.ok(playerService.topTenPlayersForFilter(filter));
+            @PathVariable String filter,
+            WebRequest webRequest){
+        boolean gzip = responseCache.isEnabled() && acceptsGzip(webRequest);
+        String etag = playerDataVersion.etag(gzip ? GZIP_ETAG_SUFFIX : null);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        if (responseCache.isEnabled()) {
+            PlayerResponseCache.EncodedResponse encoded = responseCache.get(PlayerResponseCache.TOP_TEN, filter,
+                    () -> playerService.topTenPlayersForFilter(filter));
+            return responseCache.toResponse(conditional(etag), encoded, gzip);
+        }
+        return conditional(etag).body(playerService.topTenPlayersForFilter(filter));
     }
 
     @PostMapping
@@ -127,7 +247,7 @@ public class PlayerController {
     })
     public ResponseEntity<PlayerResponseDto> createPlayer(
             @Parameter(description = "Give valid player object to add new player")
-            @RequestBody @Valid PlayerRequestDto player){
+            @RequestBody @Validated({Default.class, PlayerRequestDto.OnCreate.class}) PlayerRequestDto player){
         return ResponseEntity.ok(playerService.addPlayer(player));
     }
 
@@ -135,17 +255,34 @@ public class PlayerController {
     @PutMapping("/update/{id}")
     @Operation(summary = "Update an existing player", description = "Update an existing player's information")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Player updated successfully"),
+            @ApiResponse(responseCode = "204", description = "Player updated successfully, ETag holds the new version when a version was given"),
             @ApiResponse(responseCode = "404", description = "Player not found"),
             @ApiResponse(responseCode = "400", description = "Invalid player data provided"),
+            @ApiResponse(responseCode = "409", description = "Player was modified concurrently or the given version is stale"),
+            @ApiResponse(responseCode = "412", description = "If-Match header is not a player version"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<PlayerResponseDto> updatePlayer(
+    public ResponseEntity<Void> updatePlayer(
             @Parameter(description = "Give exist player id and valid player object to update existing player")
             @PathVariable Long id,
+            @Parameter(description = "Version the update is based on; overrides the version field of the body")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid PlayerRequestDto player){
 
-        return ResponseEntity.ok(playerService.updatePlayer(id, player));
+        //güncellenen satır tekrar okunmadığı için gövde dönülmez; yeni version ETag'de döner
+        if (ifMatch != null && !ifMatch.isBlank() && !ifMatch.trim().equals("*")) {
+            Long version = parseVersion(ifMatch);
+            if (version == null) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            player.setVersion(version);
+        }
+        OptionalLong newVersion = playerService.updatePlayer(id, player);
+        ResponseEntity.HeadersBuilder<?> response = ResponseEntity.noContent();
+        if (newVersion.isPresent()) {
+            response.eTag(Long.toString(newVersion.getAsLong()));
+        }
+        return response.build();
     }
 
 
@@ -164,4 +301,41 @@ public class PlayerController {
         return ResponseEntity.noContent().build();
     }
 
+    //If-Match: "3" ya da W/"3"; sayı değilse null
+    private static Long parseVersion(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean acceptsGzip(WebRequest webRequest) {
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    //ETag veri versiyonundan gelir; no-cache ile istemci her seferinde If-None-Match ile doğrulama yapar
+    private static ResponseEntity.BodyBuilder conditional(String etag) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag);
+    }
+
 }
@@ -0,0 +1,44 @@
+package org.ersandev.nbazone.player;
+
+import org.ersandev.nbazone.exceptions.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+//Keyset sayfalamada son görülen satırın (sıralama değeri, id) ikilisi.
+//İstemciye opak bir base64 metin olarak verilir; sıralama alanı ve yön de içinde tutulur ki
+//bir endpoint'in cursor'ı başka bir endpoint'te ya da ters yönde kullanılamasın.
+record PlayerCursor(String sortField, Sort.Direction direction, Double value, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    static PlayerCursor after(String sortField, Sort.Direction direction, Double value, Long id) {
+        return new PlayerCursor(sortField, direction, value, id);
+    }
+
+    String encode() {
+        String raw = sortField + SEPARATOR + direction + SEPARATOR + (value == null ? "" : value) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static PlayerCursor decode(String cursor, String expectedField, Sort.Direction expectedDirection) {
+        PlayerCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException();
+            }
+            Double value = parts[2].isEmpty() ? null : Double.valueOf(parts[2]);
+            decoded = new PlayerCursor(parts[0], Sort.Direction.valueOf(parts[1]), value, Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor is not valid");
+        }
+        if (!decoded.sortField.equals(expectedField) || decoded.direction != expectedDirection) {
+            throw new InvalidCursorException("Cursor does not belong to " + expectedField + " "
+                    + expectedDirection.name().toLowerCase() + " ordering");
+        }
+        return decoded;
+    }
+}
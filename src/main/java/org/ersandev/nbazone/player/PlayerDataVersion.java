@@ -0,0 +1,36 @@
+package org.ersandev.nbazone.player;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+//player_stats tablosunun veri versiyonu. addPlayer, updatePlayer, deletePlayer ve toplu import her commit'ten sonra
+//versiyonu bir artırır; okuma endpoint'leri ETag'i buradan üretir ve If-None-Match eşleşirse repository'ye gitmeden 304 döner.
+//Artırma commit'ten sonra yapılır: önce yapılsaydı commit'ten önce okuyan bir istek eski veriyi yeni ETag ile cache'leyebilirdi.
+//Kendi listener'ı yoktur; PlayerCacheEvictor cache'leri temizledikten sonra increment() çağırır (sıralama orada açıklanır).
+//ETag'e uygulamanın açılış zamanı da eklenir, restart sonrası sayaç sıfırlansa da eski ETag'ler eşleşmez.
+@Component
+public class PlayerDataVersion {
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+
+    void increment() {
+        version.incrementAndGet();
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    //strong ETag, tırnaklar dahil
+    public String etag() {
+        return etag(null);
+    }
+
+    //aynı verinin farklı bir temsili (örn. gzip) için ayrı bir strong ETag
+    public String etag(String representation) {
+        String value = bootId + "-" + version.get();
+        return "\"" + (representation == null ? value : value + "-" + representation) + "\"";
+    }
+}
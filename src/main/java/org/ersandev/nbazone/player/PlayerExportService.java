@@ -0,0 +1,93 @@
+package org.ersandev.nbazone.player;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+//Tüm player_stats tablosunu cursor ile okuyup satır satır response'a yazar.
+//Liste hiçbir zaman bellekte toplanmadığı için bellek kullanımı satır sayısından bağımsızdır.
+@Service
+@RequiredArgsConstructor
+public class PlayerExportService {
+
+    //bu kadar satırda bir response flush edilir, istemci veriyi beklemeden almaya başlar
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private final PlayerRepository playerRepository;
+    private final ObjectMapper objectMapper;
+
+    //her satır ayrı bir JSON objesi ve sonunda '\n' (application/x-ndjson)
+    @Transactional(readOnly = true)
+    public void writeNdjson(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+             Stream<PlayerResponseDto> players = playerRepository.streamAllAsDto()) {
+            generator.setRootValueSeparator(null);
+            ObjectWriter writer = rowWriter();
+            int[] rows = {0};
+            players.forEach(player -> {
+                writeRow(writer, generator, player);
+                writeRaw(generator, '\n');
+                flushPeriodically(generator, ++rows[0]);
+            });
+        }
+    }
+
+    //tek bir JSON dizisi, elemanlar geldikçe yazılır
+    @Transactional(readOnly = true)
+    public void writeJsonArray(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+             Stream<PlayerResponseDto> players = playerRepository.streamAllAsDto()) {
+            generator.writeStartArray();
+            ObjectWriter writer = rowWriter();
+            int[] rows = {0};
+            players.forEach(player -> {
+                writeRow(writer, generator, player);
+                flushPeriodically(generator, ++rows[0]);
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    //her satırdan sonra flush edilmesin, flush'ı flushPeriodically yönetir
+    private ObjectWriter rowWriter() {
+        return objectMapper.writerFor(PlayerResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private static void writeRow(ObjectWriter writer, JsonGenerator generator, PlayerResponseDto player) {
+        try {
+            writer.writeValue(generator, player);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeRaw(JsonGenerator generator, char c) {
+        try {
+            generator.writeRaw(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void flushPeriodically(JsonGenerator generator, int rows) {
+        if (rows % FLUSH_EVERY_ROWS != 0) {
+            return;
+        }
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.ersandev.nbazone.player;
+
+import org.ersandev.nbazone.stats.LeaderboardQuery;
+import org.ersandev.nbazone.stats.ScoredPlayer;
+
+import java.util.List;
+
+//PlayerRepository'ye eklenen özel sorgu parçası, formül çalışma anında belli olduğu için @Query ile yazılamaz
+public interface PlayerLeaderboardRepository {
+
+    List<ScoredPlayer> findLeaderboard(LeaderboardQuery query);
+}
@@ -0,0 +1,61 @@
+package org.ersandev.nbazone.player;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.ersandev.nbazone.stats.LeaderboardQuery;
+import org.ersandev.nbazone.stats.PlayerStat;
+import org.ersandev.nbazone.stats.ScoredPlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+//Formül tek bir SQL ifadesine çevrilir: SELECT p, SUM(COALESCE(stat, 0) * w) ... ORDER BY skor DESC, id LIMIT n.
+//Skorlama ve sıralama veritabanında yapılır, uygulamaya yalnızca ilk n satır gelir.
+class PlayerLeaderboardRepositoryImpl implements PlayerLeaderboardRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ScoredPlayer> findLeaderboard(LeaderboardQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<Player> player = criteria.from(Player.class);
+
+        Expression<Number> score = null;
+        for (Map.Entry<PlayerStat, Double> term : query.formula().terms().entrySet()) {
+            Expression<Number> value = cb.coalesce(player.<Number>get(term.getKey().getFieldName()), (Number) 0.0);
+            Expression<Number> weighted = cb.prod(value, (Number) term.getValue());
+            score = score == null ? weighted : cb.sum(score, weighted);
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (query.team() != null) {
+            predicates.add(cb.equal(player.get("teamKey"), query.teamKey()));
+        }
+        if (query.minAge() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(player.get("age"), query.minAge()));
+        }
+        if (query.maxAge() != null) {
+            predicates.add(cb.lessThanOrEqualTo(player.get("age"), query.maxAge()));
+        }
+
+        criteria.multiselect(player, score)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(score), cb.asc(player.get("id")));
+
+        return entityManager.createQuery(criteria)
+                .setMaxResults(query.limit())
+                .getResultList()
+                .stream()
+                .map(row -> new ScoredPlayer(row.get(0, Player.class), row.get(1, Number.class).doubleValue()))
+                .toList();
+    }
+}
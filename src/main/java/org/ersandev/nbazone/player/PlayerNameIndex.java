@@ -0,0 +1,326 @@
+package org.ersandev.nbazone.player;
+
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+//Normalize edilmiş oyuncu isimleri üzerinde trie. Her isim hem tamamıyla hem de her kelimesinden başlayarak eklenir,
+//böylece "luka d" ve "donc" aynı oyuncuyu bulur. Arama önce birebir önek eşleşmesine bakar; yeterli sonuç yoksa
+//trie üzerinde Levenshtein satırı taşıyan DFS ile sınırlı edit distance'lı (yazım hatalı) önekleri arar.
+//Aramanın süresi spring.app.playerSearchBudgetMs ile sınırlıdır, süre dolunca o ana kadar bulunanlar döner.
+@Component
+public class PlayerNameIndex extends PlayerReadModel<PlayerNameIndex.Trie> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerNameIndex.class);
+
+    //süre kontrolü her düğümde değil, bu kadar düğümde bir yapılır
+    private static final int BUDGET_CHECK_INTERVAL = 256;
+
+    private static final int FUZZY_CANDIDATE_FACTOR = 4;
+
+    private final long budgetNanos;
+
+    public PlayerNameIndex(PlayerRepository playerRepository, PlatformTransactionManager transactionManager,
+                           @Value("${spring.app.playerSearchBudgetMs}") long budgetMs) {
+        super(playerRepository, transactionManager, new Trie());
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMs);
+    }
+
+    @Override
+    protected Trie load(Stream<PlayerResponseDto> players) {
+        Trie trie = new Trie();
+        players.forEach(player -> trie.add(IndexedName.of(player.getId(), player.getPlayerName(), player.getTeam())));
+        logger.info("Player name index loaded {} players", trie.namesById.size());
+        return trie;
+    }
+
+    @Override
+    protected void apply(Trie trie, PlayerChangedEvent event) {
+        Player after = event.after();
+        PlayerRequestDto changes = event.changes();
+        IndexedName next;
+        if (after != null) {
+            next = IndexedName.of(after.getId(), after.getPlayerName(), after.getTeam());
+        } else if (changes != null) {
+            //isim ve takım değişmediyse trie'ye dokunulmaz
+            if (changes.getPlayerName() == null && changes.getTeam() == null) {
+                return;
+            }
+            IndexedName current = trie.namesById.get(event.playerId());
+            next = current == null ? null : IndexedName.of(current.id(),
+                    changes.getPlayerName() != null ? changes.getPlayerName() : current.playerName(),
+                    changes.getTeam() != null ? changes.getTeam() : current.team());
+        } else {
+            next = null;
+        }
+        trie.remove(event.playerId());
+        if (next != null) {
+            trie.add(next);
+        }
+    }
+
+    //sonuçlar edit distance'a, sonra isim uzunluğuna göre sıralıdır
+    public List<Match> search(String query, int limit) {
+        String normalized = PlayerNameNormalizer.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Search search = new Search(normalized, maxDistance(normalized), limit, System.nanoTime() + budgetNanos);
+
+        return read(trie -> {
+            trie.root.collectPrefix(normalized, 0, search);
+            if (!search.isFull() && search.maxDistance > 0) {
+                //yazım hatalı adaylar farklı distance'larla gelir, en iyileri seçebilmek için limit'ten fazlası toplanır
+                search.capacity = limit * FUZZY_CANDIDATE_FACTOR;
+                int[] firstRow = new int[normalized.length() + 1];
+                Arrays.setAll(firstRow, i -> i);
+                trie.root.fuzzy(search, firstRow, Integer.MAX_VALUE);
+            }
+
+            List<Match> matches = new ArrayList<>(search.distances.size());
+            search.distances.forEach((id, distance) -> {
+                IndexedName name = trie.namesById.get(id);
+                if (name != null) {
+                    matches.add(new Match(name.id(), name.playerName(), name.team(), distance));
+                }
+            });
+            matches.sort(Comparator.comparingInt(Match::distance)
+                    .thenComparingInt(match -> match.playerName().length())
+                    .thenComparing(Match::playerName));
+            return matches.size() > limit ? matches.subList(0, limit) : matches;
+        });
+    }
+
+    //kısa sorgularda yazım hatası toleransı sonuçları anlamsızlaştırır
+    static int maxDistance(String normalizedQuery) {
+        int length = normalizedQuery.length();
+        return length <= 3 ? 0 : length <= 6 ? 1 : 2;
+    }
+
+    //"luka doncic" -> ["luka doncic", "doncic"]
+    private static Set<String> keys(String normalizedName) {
+        Set<String> keys = new HashSet<>();
+        if (normalizedName.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalizedName);
+        for (int i = normalizedName.indexOf(' '); i >= 0; i = normalizedName.indexOf(' ', i + 1)) {
+            keys.add(normalizedName.substring(i + 1));
+        }
+        return keys;
+    }
+
+    public record Match(long id, String playerName, String team, int distance) {
+    }
+
+    private record IndexedName(long id, String playerName, String team, String normalizedName) {
+
+        static IndexedName of(long id, String playerName, String team) {
+            return new IndexedName(id, playerName, team, PlayerNameNormalizer.normalize(playerName));
+        }
+    }
+
+    //isim indeksinin modeli; sadece PlayerReadModel kilidi altında okunur ve değiştirilir
+    static final class Trie {
+
+        private final Map<Long, IndexedName> namesById = new HashMap<>();
+        private final Node root = new Node();
+
+        private void add(IndexedName name) {
+            namesById.put(name.id(), name);
+            for (String key : keys(name.normalizedName())) {
+                root.insert(key, 0, name.id());
+            }
+        }
+
+        private void remove(Long playerId) {
+            IndexedName existing = namesById.remove(playerId);
+            if (existing != null) {
+                for (String key : keys(existing.normalizedName())) {
+                    root.remove(key, 0, existing.id());
+                }
+            }
+        }
+    }
+
+    //tek bir aramanın durumu: id -> bulunan en küçük distance
+    private static final class Search {
+
+        private final String query;
+        private final int maxDistance;
+        private final long deadline;
+        private int capacity;
+        private final Map<Long, Integer> distances = new HashMap<>();
+        private int visited;
+        private boolean expired;
+
+        Search(String query, int maxDistance, int limit, long deadline) {
+            this.query = query;
+            this.maxDistance = maxDistance;
+            this.capacity = limit;
+            this.deadline = deadline;
+        }
+
+        boolean shouldStop() {
+            if (expired) {
+                return true;
+            }
+            if (++visited % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                expired = true;
+            }
+            return expired;
+        }
+
+        boolean isFull() {
+            return distances.size() >= capacity;
+        }
+
+        void found(long id, int distance) {
+            distances.merge(id, distance, Math::min);
+        }
+    }
+
+    //çocuklar sıralı olmayan küçük dizilerde tutulur, isimlerde bir düğümün çocuk sayısı nadiren 10'u geçer
+    private static final class Node {
+
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private Set<Long> ids;
+
+        void insert(String key, int index, long id) {
+            if (index == key.length()) {
+                if (ids == null) {
+                    ids = new HashSet<>(2);
+                }
+                ids.add(id);
+                return;
+            }
+            char label = key.charAt(index);
+            Node child = child(label);
+            if (child == null) {
+                child = new Node();
+                labels = Arrays.copyOf(labels, labels.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                labels[labels.length - 1] = label;
+                children[children.length - 1] = child;
+            }
+            child.insert(key, index + 1, id);
+        }
+
+        //düğüm boşaldıysa true döner, ebeveyn onu çocuklarından çıkarır
+        boolean remove(String key, int index, long id) {
+            if (index == key.length()) {
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        ids = null;
+                    }
+                }
+            } else {
+                char label = key.charAt(index);
+                for (int i = 0; i < labels.length; i++) {
+                    if (labels[i] == label && children[i].remove(key, index + 1, id)) {
+                        removeChild(i);
+                        break;
+                    }
+                }
+            }
+            return ids == null && labels.length == 0;
+        }
+
+        //sorguyla birebir (wildcard'lar dahil) eşleşen her önekin alt ağacını toplar;
+        //isimdeki '?' sorgudaki her harfe uyduğu için birden fazla yol eşleşebilir
+        void collectPrefix(String query, int index, Search search) {
+            if (index == query.length()) {
+                collect(search, 0);
+                return;
+            }
+            char c = query.charAt(index);
+            for (int i = 0; i < labels.length && !search.isFull(); i++) {
+                if (PlayerNameNormalizer.matches(labels[i], c)) {
+                    children[i].collectPrefix(query, index + 1, search);
+                }
+            }
+        }
+
+        void collect(Search search, int distance) {
+            if (search.shouldStop() || search.isFull()) {
+                return;
+            }
+            if (ids != null) {
+                for (Long id : ids) {
+                    search.found(id, distance);
+                }
+            }
+            for (Node child : children) {
+                child.collect(search, distance);
+            }
+        }
+
+        //previousRow: sorgu önekleri ile bu düğüme kadar olan yol arasındaki Levenshtein mesafeleri.
+        //best: yol üzerindeki düğümlerde sorgunun tamamı için görülen en küçük mesafe; bir ismin sonucu,
+        //sorgunun isimin herhangi bir önekine olan en küçük mesafesidir. Satırın minimumu yol boyunca azalmaz,
+        //bu yüzden best'ten küçük olamadığı anda alt ağaç daha fazla inmeden best ile toplanır.
+        void fuzzy(Search search, int[] previousRow, int best) {
+            String query = search.query;
+            for (int i = 0; i < labels.length; i++) {
+                if (search.shouldStop() || search.isFull()) {
+                    return;
+                }
+                int[] row = new int[previousRow.length];
+                row[0] = previousRow[0] + 1;
+                int rowMin = row[0];
+                for (int j = 1; j < row.length; j++) {
+                    int substitution = previousRow[j - 1]
+                            + (PlayerNameNormalizer.matches(labels[i], query.charAt(j - 1)) ? 0 : 1);
+                    row[j] = Math.min(Math.min(row[j - 1] + 1, previousRow[j] + 1), substitution);
+                    rowMin = Math.min(rowMin, row[j]);
+                }
+                int childBest = Math.min(best, row[row.length - 1]);
+                Node child = children[i];
+                if (childBest <= search.maxDistance && rowMin >= childBest) {
+                    child.collect(search, childBest);
+                } else if (rowMin <= search.maxDistance) {
+                    if (childBest <= search.maxDistance && child.ids != null) {
+                        for (Long id : child.ids) {
+                            search.found(id, childBest);
+                        }
+                    }
+                    child.fuzzy(search, row, childBest);
+                }
+            }
+        }
+
+        private Node child(char label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == label) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private void removeChild(int index) {
+            int last = labels.length - 1;
+            labels[index] = labels[last];
+            children[index] = children[last];
+            labels = Arrays.copyOf(labels, last);
+            children = Arrays.copyOf(children, last);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.ersandev.nbazone.player;
+
+import java.text.Normalizer;
+
+//İsimleri karşılaştırılabilir hale getirir: aksanlar atılır (Dončić -> doncic), küçük harfe çevrilir,
+//harf/rakam dışındaki karakterler tek boşluğa indirilir. Nba_Stats.csv'de bozuk gelen karakterler ('?' veya U+FFFD)
+//WILDCARD olarak korunur ve aramada herhangi bir harfle eşleşir ("Don?i?" -> "don?i?" ~ "doncic").
+final class PlayerNameNormalizer {
+
+    static final char WILDCARD = '?';
+
+    private PlayerNameNormalizer() {
+    }
+
+    static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        StringBuilder builder = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            String folded = fold(Character.toLowerCase(c));
+            if (folded == null) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(folded);
+        }
+        return builder.toString();
+    }
+
+    static boolean matches(char stored, char query) {
+        return stored == query || stored == WILDCARD || query == WILDCARD;
+    }
+
+    //NFD ile ayrışmayan harfler elle katlanır; null: ayırıcı karakter
+    private static String fold(char c) {
+        switch (c) {
+            case '?', '\uFFFD':
+                return String.valueOf(WILDCARD);
+            case 'ø':
+                return "o";
+            case 'ł':
+                return "l";
+            case 'đ', 'ð':
+                return "d";
+            case 'ı':
+                return "i";
+            case 'ß':
+                return "ss";
+            case 'æ':
+                return "ae";
+            case 'œ':
+                return "oe";
+            default:
+                return Character.isLetterOrDigit(c) ? String.valueOf(c) : null;
+        }
+    }
+}
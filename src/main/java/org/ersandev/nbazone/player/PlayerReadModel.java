@@ -0,0 +1,124 @@
+package org.ersandev.nbazone.player;
+
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+//player_stats tablosundan kurulan bellek içi okuma modellerinin (isim, sıralama, takım indeksleri) ortak yükleme akışı.
+//Alt sınıf sadece snapshot'tan modeli kurar (load) ve tek bir değişikliği modele uygular (apply).
+//Model yanda kurulur ve yazma kilidi altında tek seferde değiştirilir, yükleme sırasında okumalar eski modeli görür.
+//Snapshot okunurken gelen değişiklikler eski modele uygulanır ve ayrıca biriktirilir; swap'ten sonra yeni modele
+//tekrar uygulanır. Bu yüzden apply, snapshot'ta zaten olan bir değişikliği tekrar almaya dayanıklı olmalıdır (çıkar + ekle).
+public abstract class PlayerReadModel<M> {
+
+    private final PlayerRepository playerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    //okumalar paylaşımlı kilitle paralel çalışır, değişiklikler model üzerinde yerinde yapıldığı için tek başına
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    //aynı anda tek reload: geç biten eski bir snapshot yeni bir snapshot'ın üzerine yazılmasın
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private M model;
+    private boolean ready;
+    //reload sürerken gelen değişiklikler; null ise reload yok (lock altında erişilir)
+    private List<PlayerChangedEvent> pendingEvents;
+
+    protected PlayerReadModel(PlayerRepository playerRepository, PlatformTransactionManager transactionManager,
+                              M emptyModel) {
+        this.playerRepository = playerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.model = emptyModel;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        reloadLock.lock();
+        try {
+            reloadBuffered();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void reloadBuffered() {
+        setPendingEvents(new ArrayList<>());
+        M loaded;
+        try {
+            loaded = readOnlyTransaction.execute(status -> {
+                try (Stream<PlayerResponseDto> players = playerRepository.streamAllAsDto()) {
+                    return load(players);
+                }
+            });
+        } catch (RuntimeException e) {
+            setPendingEvents(null);
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            model = loaded;
+            ready = true;
+            pendingEvents.forEach(event -> apply(loaded, event));
+            pendingEvents = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            if (ready) {
+                apply(model, event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayersBulkChanged(PlayersBulkChangedEvent event) {
+        reload();
+    }
+
+    //reader paylaşımlı kilit altında çalışır; modelin kendisini ya da iç koleksiyonlarını dışarı döndürmemeli
+    protected <T> T read(Function<M, T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(model);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //kilit dışında, read-only transaction içinde çalışır; stream'i kapatmak çağıranın işidir
+    protected abstract M load(Stream<PlayerResponseDto> players);
+
+    //yazma kilidi altında çalışır
+    protected abstract void apply(M model, PlayerChangedEvent event);
+
+    private void setPendingEvents(List<PlayerChangedEvent> events) {
+        lock.writeLock().lock();
+        try {
+            pendingEvents = events;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
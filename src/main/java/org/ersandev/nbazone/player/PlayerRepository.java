@@ -1,29 +1,93 @@
 package org.ersandev.nbazone.player;
 
+import jakarta.persistence.QueryHint;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface PlayerRepository extends JpaRepository<Player, Long> {
+public interface PlayerRepository extends JpaRepository<Player, Long>, PlayerLeaderboardRepository, PlayerWriteRepository {
+
+    //DTO projeksiyonu: entity, persistence context ve dirty checking snapshot'ı oluşmaz, sadece DTO'nun kolonları okunur
+    String SELECT_RESPONSE_DTO = "SELECT new org.ersandev.nbazone.dto.PlayerResponseDto(p.id, p.playerName, p.team, " +
+            "p.age, p.min, p.pts, p.fgPercent, p.threePPercent, p.ftPercent, p.dreb, p.reb, p.ast, p.stl, p.blk, " +
+            "p.version) FROM Player p ";
+
+    //findTopTenByFilter'ın desteklediği filtreler, diğerleri id'ye göre sıralanır
+    Set<String> TOP_TEN_FILTERS = Set.of("dreb", "reb", "ast", "stl", "blk");
+
     List<Player> findByAge(int age);
 
-    @Query(value = "SELECT p FROM Player p ORDER BY CASE " +
-                    "WHEN :filter = 'dreb' THEN p.dreb " +
-                    "WHEN :filter = 'reb' THEN p.reb " +
-                    "WHEN :filter = 'ast' THEN p.ast " +
-                    "WHEN :filter = 'stl' THEN p.stl " +
-                    "WHEN :filter = 'blk' THEN p.blk " +
-                    "ELSE p.id END desc ")
-    List<Player> findTopTenByFilter(String filter, Pageable pageable);
+    //ORDER BY CASE ... ifadesi hiçbir indeksi kullanamaz ve tüm tabloyu sıralardı; filtre burada kolona çevrilir,
+    //sorgu ORDER BY kolon DESC LIMIT 10 olarak idx_player_stats_<kolon> indeksinden okunur
+    default List<Player> findTopTenByFilter(String filter, Pageable pageable) {
+        String normalized = filter.toLowerCase(Locale.ROOT);
+        String column = TOP_TEN_FILTERS.contains(normalized) ? normalized : "id";
+        return findAllBy(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, column))).getContent();
+    }
 
-    Optional<List<Player>> findAllByTeamIgnoreCase(String team);
+    //team_key küçük harfli ve indeksli olduğu için arama değeri de küçük harfle verilmelidir
+    @Query(SELECT_RESPONSE_DTO + "WHERE p.teamKey = :teamKey ORDER BY p.id")
+    Optional<List<PlayerResponseDto>> findAllByTeamKey(String teamKey);
 
     Optional<List<Player>> findAllByPlayerName(String playerName);
 
-    Optional<List<Player>> findAllByAge(int age);
+    @Query(SELECT_RESPONSE_DTO + "WHERE p.age = :age ORDER BY p.id")
+    Optional<List<PlayerResponseDto>> findAllByAge(int age);
+
+    //toplu okuma: her liste tek bir IN sorgusuyla çözülür
+    List<Player> findAllByPlayerNameIn(Collection<String> playerNames);
+
+    @Query(SELECT_RESPONSE_DTO + "WHERE p.teamKey IN :teamKeys ORDER BY p.id")
+    List<PlayerResponseDto> findAllByTeamKeyIn(Collection<String> teamKeys);
+
+    //Keyset (seek) sayfalama: OFFSET ve COUNT(*) yok, son görülen (değer, id)'den sonrası idx_player_stats_*_id
+    //indeksinden okunur. Sıralama (değer, id) olarak Pageable ile verilir, Slice bir fazla satır okuyarak hasNext'i bulur.
+    //MySQL'de ASC sıralamada null'lar başta, DESC sıralamada sonda olduğu için pts sorguları null'ları ayrıca ele alır.
+    Slice<Player> findAllBy(Pageable pageable);
+
+    @Query("SELECT p FROM Player p WHERE p.pts >= :pts AND (p.pts > :pts OR p.id > :id)")
+    Slice<Player> findPtsAscAfter(Double pts, Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Player p WHERE (p.pts IS NULL AND p.id > :id) OR p.pts IS NOT NULL")
+    Slice<Player> findPtsAscAfterNull(Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Player p WHERE (p.pts <= :pts AND (p.pts < :pts OR p.id < :id)) OR p.pts IS NULL")
+    Slice<Player> findPtsDescAfter(Double pts, Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Player p WHERE p.pts IS NULL AND p.id < :id")
+    Slice<Player> findPtsDescAfterNull(Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Player p WHERE p.age >= :age AND (p.age > :age OR p.id > :id)")
+    Slice<Player> findAgeAscAfter(int age, Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Player p WHERE p.age <= :age AND (p.age < :age OR p.id < :id)")
+    Slice<Player> findAgeDescAfter(int age, Long id, Pageable pageable);
+
+    //deleteById'nin aksine satırı önce yüklemez; tek DELETE çalışır ve silinen satır sayısı döner
+    @Modifying
+    @Query("DELETE FROM Player p WHERE p.id = :id")
+    int removeById(Long id);
+
+    //export için: entity yerine doğrudan DTO okunur, persistence context büyümez; satırlar fetch size kadar parça parça gelir.
+    //Datasource url'indeki useCursorFetch sadece fetch size verilen sorgularda cursor açar, yani sadece bu sorguda.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_RESPONSE_DTO + "ORDER BY p.id")
+    Stream<PlayerResponseDto> streamAllAsDto();
 }
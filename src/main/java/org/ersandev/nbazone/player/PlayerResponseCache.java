@@ -0,0 +1,140 @@
+package org.ersandev.nbazone.player;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.ersandev.nbazone.config.CacheConfig;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+//top10 ve takım listelerinin JSON'a çevrilmiş ve gzip'lenmiş son hallerini byte[] olarak tutar.
+//Cache'ten gelen istekte Jackson ve gzip hiç çalışmaz, byte'lar ByteArrayHttpMessageConverter ile doğrudan response'a yazılır.
+//Her kayıt üretilmeye başlandığı andaki PlayerDataVersion ile işaretlenir; versiyon değiştiyse kayıt yok sayılıp yeniden
+//üretilir. Bu ancak versiyon Spring cache'leri temizlendikten sonra artarsa doğrudur: aksi halde yeni versiyonu okuyan bir
+//istek henüz silinmemiş eski listeyi yeni versiyonla byte cache'ine yazardı. Sıra PlayerCacheEvictor'da sabittir
+//(Spring cache'leri -> invalidateAll -> versiyon artışı), bu sınıfın kendi event listener'ı yoktur.
+//Toplam boyut spring.app.responseByteCacheMaxBytes ile sınırlıdır (identity + gzip byte'ları sayılır).
+@Component
+public class PlayerResponseCache {
+
+    public static final String TOP_TEN = "top10";
+    public static final String TEAM = "team";
+
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final PlayerDataVersion dataVersion;
+    private final Cache<CacheKey, EncodedResponse> cache;
+    private final Counter gzipServed;
+    private final Counter identityServed;
+
+    public PlayerResponseCache(@Value("${spring.app.responseByteCacheEnabled:true}") boolean enabled,
+                               @Value("${spring.app.responseByteCacheMaxBytes:8388608}") long maxBytes,
+                               @Value("${spring.app.playerCacheTtlMs}") long ttlMs,
+                               ObjectMapper objectMapper,
+                               PlayerDataVersion dataVersion,
+                               MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        this.dataVersion = dataVersion;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((CacheKey key, EncodedResponse value) -> value.weight())
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "playerResponseBytes");
+        Gauge.builder("player.response.cache.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("Bytes held by the pre-serialized player response cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.gzipServed = servedCounter(meterRegistry, "gzip");
+        this.identityServed = servedCounter(meterRegistry, "identity");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    //yükleme Caffeine'in compute kilidinin dışında yapılır (servis çağrısı veritabanına gidebilir)
+    public EncodedResponse get(String kind, String key, Supplier<List<PlayerResponseDto>> loader) {
+        long version = dataVersion.current();
+        CacheKey cacheKey = new CacheKey(kind, normalize(kind, key));
+        EncodedResponse cached = cache.getIfPresent(cacheKey);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+        EncodedResponse encoded = encode(loader.get(), version);
+        cache.put(cacheKey, encoded);
+        return encoded;
+    }
+
+    //versiyon kontrolü doğruluğu zaten sağlıyor, burada sadece eski byte'lar için bellek boşaltılır
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public ResponseEntity<byte[]> toResponse(ResponseEntity.BodyBuilder builder, EncodedResponse encoded, boolean gzip) {
+        builder.contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            gzipServed.increment();
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(encoded.gzip().length)
+                    .body(encoded.gzip());
+        }
+        identityServed.increment();
+        return builder.contentLength(encoded.identity().length)
+                .body(encoded.identity());
+    }
+
+    private EncodedResponse encode(List<PlayerResponseDto> players, long version) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(players);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(identity.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(identity);
+            }
+            return new EncodedResponse(identity, compressed.toByteArray(), version);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //servisteki @Cacheable anahtarlarıyla aynı normalizasyon: takımlar teamKey, top 10 filtreleri filterKey
+    private static String normalize(String kind, String key) {
+        return TEAM.equals(kind) ? CacheConfig.teamKey(key) : CacheConfig.filterKey(key);
+    }
+
+    private static Counter servedCounter(MeterRegistry meterRegistry, String encoding) {
+        return Counter.builder("player.response.cache.served")
+                .tag("encoding", encoding)
+                .register(meterRegistry);
+    }
+
+    private record CacheKey(String kind, String key) {
+    }
+
+    public record EncodedResponse(byte[] identity, byte[] gzip, long version) {
+
+        int weight() {
+            return identity.length + gzip.length;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.ersandev.nbazone.player;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.dto.PlayerSearchResultDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/v1/players")
+@RequiredArgsConstructor
+public class PlayerSearchController {
+
+    private static final int MAX_LIMIT = 50;
+    private static final int MAX_QUERY_LENGTH = 64;
+
+    private final PlayerNameIndex playerNameIndex;
+
+    //autocomplete her tuşta istek attığı için hatalı parametreler 400 yerine sınırlara çekilir
+    @GetMapping("/search")
+    @Operation(summary = "Search players by name", description = "Accent-insensitive prefix search with typo tolerance, suitable for autocomplete.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matches fetched successfully"),
+            @ApiResponse(responseCode = "500",description = "Internal server error")
+    })
+    public ResponseEntity<List<PlayerSearchResultDto>> searchPlayers(
+            @Parameter(description = "Name or name prefix, diacritics optional", example = "donc")
+            @RequestParam(defaultValue = "") String q,
+            @Parameter(description = "Maximum number of matches (1-50)", example = "10")
+            @RequestParam(defaultValue = "10") int limit){
+        String query = q.length() > MAX_QUERY_LENGTH ? q.substring(0, MAX_QUERY_LENGTH) : q;
+        List<PlayerSearchResultDto> results = playerNameIndex.search(query, Math.max(1, Math.min(limit, MAX_LIMIT)))
+                .stream()
+                .map(match -> new PlayerSearchResultDto(match.id(), match.playerName(), match.team(), match.distance()))
+                .toList();
+        return ResponseEntity.ok(results);
+    }
+}
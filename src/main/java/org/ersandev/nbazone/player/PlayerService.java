@@ -1,11 +1,15 @@
 package org.ersandev.nbazone.player;
 
 import jakarta.transaction.Transactional;
+import org.ersandev.nbazone.dto.PlayerBatchRequestDto;
+import org.ersandev.nbazone.dto.PlayerBatchResponseDto;
+import org.ersandev.nbazone.dto.PlayerCursorPageDto;
 import org.ersandev.nbazone.dto.PlayerRequestDto;
 import org.ersandev.nbazone.dto.PlayerResponseDto;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
+import java.util.OptionalLong;
 
 public interface PlayerService {
     List<PlayerResponseDto> getPlayers();
@@ -20,11 +24,20 @@ public interface PlayerService {
 
     Page<PlayerResponseDto> sortPlayersByPoint(int page, int size, String direction);
 
+    //keyset sayfalama: cursor null ise ilk sayfa döner
+    PlayerCursorPageDto scrollPlayersByAge(String cursor, int size, String direction);
+
+    PlayerCursorPageDto scrollPlayersByPoint(String cursor, int size, String direction);
+
     List<PlayerResponseDto> topTenPlayersForFilter(String filter);
 
+    //id, isim ve takım listelerini tek istekte çözer; bulunamayanlar exception yerine found=false ile döner
+    PlayerBatchResponseDto getPlayersBatch(PlayerBatchRequestDto request);
+
     PlayerResponseDto addPlayer(PlayerRequestDto playerRequestDto);
 
-    PlayerResponseDto updatePlayer(Long id, PlayerRequestDto playerRequestDto);
+    //satırın yeni version'ını döner; istekte version yoksa güncelleme koşulsuzdur ve version bilinmez
+    OptionalLong updatePlayer(Long id, PlayerRequestDto playerRequestDto);
 
     @Transactional
     void deletePlayer(Long id);
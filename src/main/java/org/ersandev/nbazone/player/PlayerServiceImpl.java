@@ -3,20 +3,41 @@ package org.ersandev.nbazone.player;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.config.CacheConfig;
+import org.ersandev.nbazone.dto.PlayerBatchItemDto;
+import org.ersandev.nbazone.dto.PlayerBatchRequestDto;
+import org.ersandev.nbazone.dto.PlayerBatchResponseDto;
+import org.ersandev.nbazone.dto.PlayerCursorPageDto;
 import org.ersandev.nbazone.dto.PlayerRequestDto;
 import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.exceptions.InvalidCursorException;
 import org.ersandev.nbazone.exceptions.PlayerNotFoundException;
 import org.ersandev.nbazone.exceptions.TeamNotFoundException;
 import org.ersandev.nbazone.mapper.EntityMapper;
-import org.modelmapper.Conditions;
-import org.modelmapper.ModelMapper;
+import org.ersandev.nbazone.stats.PlayerStat;
+import org.ersandev.nbazone.stats.PlayerStatsEngine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -24,9 +45,13 @@ public class PlayerServiceImpl implements PlayerService {
 
     private final PlayerRepository playerRepository;
     private final EntityMapper entityMapper;
-    private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    //spring.app.statsEngineEnabled=true ise sıralama ve top 10 sorguları bellekten cevaplanır
+    private final Optional<PlayerStatsEngine> statsEngine;
+    private final CacheManager cacheManager;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.PLAYERS_CACHE, key = "'" + CacheConfig.ALL_PLAYERS_KEY + "'")
     public List<PlayerResponseDto> getPlayers() {
        List<Player> players = playerRepository.findAll();
         return players.stream()
@@ -36,13 +61,12 @@ public class PlayerServiceImpl implements PlayerService {
 
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.PLAYERS_BY_TEAM_CACHE, key = "T(org.ersandev.nbazone.config.CacheConfig).teamKey(#teamName)")
     public List<PlayerResponseDto> getPlayersFromTeam(String teamName) {
-        List<Player> players = playerRepository.findAllByTeamIgnoreCase(teamName)
+        //DTO'lar doğrudan sorgudan gelir, entity mapping'e gerek kalmaz; cache'e değiştirilemez kopya girer
+        return playerRepository.findAllByTeamKey(CacheConfig.teamKey(teamName))
+                .map(List::copyOf)
                 .orElseThrow( ()-> new TeamNotFoundException("Team " + teamName + " not found"));
-
-          return players.stream()
-                .map( player -> entityMapper.entityToDto(player,PlayerResponseDto.class))
-                .toList();
     }
 
     // Burada örnek olması için functional programing yapısı ile Java 8 stream() kodladım
@@ -58,14 +82,12 @@ public class PlayerServiceImpl implements PlayerService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.PLAYERS_BY_AGE_CACHE, key = "#age")
     public List<PlayerResponseDto> getPlayersByAge(int age){
 
-        List<Player> players = playerRepository.findAllByAge(age)
+        return playerRepository.findAllByAge(age)
+                .map(List::copyOf)
                 .orElseThrow( ()-> new PlayerNotFoundException("There are no " + age + " years old players in NBA"));
-
-               return players.stream()
-                       .map(player -> entityMapper.entityToDto(player, PlayerResponseDto.class))
-                       .toList();
     }
 
     @Override
@@ -82,7 +104,8 @@ public class PlayerServiceImpl implements PlayerService {
         }
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Player> playerPage = playerRepository.findAll(pageable);
+        Page<Player> playerPage = statsEngine.map(engine -> engine.sortedPage(PlayerStat.AGE, pageable))
+                .orElseGet(() -> playerRepository.findAll(pageable));
         return playerPage.map( player -> entityMapper.entityToDto(player,PlayerResponseDto.class));
     }
 
@@ -100,44 +123,217 @@ public class PlayerServiceImpl implements PlayerService {
         }
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Player> playerPage = playerRepository.findAll(pageable);
+        Page<Player> playerPage = statsEngine.map(engine -> engine.sortedPage(PlayerStat.PTS, pageable))
+                .orElseGet(() -> playerRepository.findAll(pageable));
         return playerPage.map(player -> entityMapper.entityToDto(player,PlayerResponseDto.class));
     }
 
     @Override
+    public PlayerCursorPageDto scrollPlayersByAge(String cursor, int size, String direction){
+        Sort.Direction sortDirection = keysetDirection(direction);
+        Pageable pageable = PageRequest.of(0, size, Sort.by(sortDirection, "age", "id"));
+
+        Slice<Player> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = playerRepository.findAllBy(pageable);
+        } else {
+            PlayerCursor after = PlayerCursor.decode(cursor, "age", sortDirection);
+            if (after.value() == null) {
+                throw new InvalidCursorException("Cursor is not valid");
+            }
+            int age = after.value().intValue();
+            slice = sortDirection.isAscending()
+                    ? playerRepository.findAgeAscAfter(age, after.id(), pageable)
+                    : playerRepository.findAgeDescAfter(age, after.id(), pageable);
+        }
+        return toCursorPage(slice, "age", sortDirection, player -> (double) player.getAge());
+    }
+
+    @Override
+    public PlayerCursorPageDto scrollPlayersByPoint(String cursor, int size, String direction){
+        Sort.Direction sortDirection = keysetDirection(direction);
+        Pageable pageable = PageRequest.of(0, size, Sort.by(sortDirection, "pts", "id"));
+
+        Slice<Player> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = playerRepository.findAllBy(pageable);
+        } else {
+            PlayerCursor after = PlayerCursor.decode(cursor, "pts", sortDirection);
+            if (sortDirection.isAscending()) {
+                slice = after.value() == null
+                        ? playerRepository.findPtsAscAfterNull(after.id(), pageable)
+                        : playerRepository.findPtsAscAfter(after.value(), after.id(), pageable);
+            } else {
+                slice = after.value() == null
+                        ? playerRepository.findPtsDescAfterNull(after.id(), pageable)
+                        : playerRepository.findPtsDescAfter(after.value(), after.id(), pageable);
+            }
+        }
+        return toCursorPage(slice, "pts", sortDirection, Player::getPts);
+    }
+
+    //sayfa numaralı endpoint'lerle aynı: tanınmayan yön asc kabul edilir
+    private static Sort.Direction keysetDirection(String direction) {
+        return direction.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
+
+    private PlayerCursorPageDto toCursorPage(Slice<Player> slice, String sortField, Sort.Direction direction,
+                                             Function<Player, Double> sortValue) {
+        List<PlayerResponseDto> content = slice.getContent().stream()
+                .map(player -> entityMapper.entityToDto(player, PlayerResponseDto.class))
+                .toList();
+        String nextCursor = null;
+        if (slice.hasNext() && slice.hasContent()) {
+            Player last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = PlayerCursor.after(sortField, direction, sortValue.apply(last), last.getId()).encode();
+        }
+        return new PlayerCursorPageDto(content, content.size(), slice.hasNext(), nextCursor);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.TOP_TEN_PLAYERS_CACHE, key = "T(org.ersandev.nbazone.config.CacheConfig).filterKey(#filter)")
     public List<PlayerResponseDto> topTenPlayersForFilter(String filter){
         Pageable topTen = PageRequest.of(0,10);
-        return playerRepository.findTopTenByFilter(filter,topTen).stream()
+        List<Player> players = statsEngine.map(engine -> engine.topTenByFilter(filter))
+                .orElseGet(() -> playerRepository.findTopTenByFilter(filter,topTen));
+        return players.stream()
                 .map(player -> entityMapper.entityToDto(player, PlayerResponseDto.class))
                 .toList();
     }
 
+    @Override
+    public PlayerBatchResponseDto getPlayersBatch(PlayerBatchRequestDto request){
+        return new PlayerBatchResponseDto(
+                batchByIds(distinct(request.getIds(), id -> id)),
+                batchByNames(distinct(request.getNames(), name -> name.trim().toLowerCase(Locale.ROOT))),
+                batchByTeams(distinct(request.getTeams(), CacheConfig::teamKey)));
+    }
+
+    private List<PlayerBatchItemDto> batchByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PlayerResponseDto> playersById = new HashMap<>();
+        for (Player player : playerRepository.findAllById(ids)) {
+            playersById.put(player.getId(), entityMapper.entityToDto(player, PlayerResponseDto.class));
+        }
+        return ids.stream()
+                .map(id -> batchItem(String.valueOf(id), Optional.ofNullable(playersById.get(id)).map(List::of).orElse(List.of())))
+                .toList();
+    }
+
+    //MySQL'in varsayılan collation'ı gibi isimler büyük/küçük harf duyarsız eşleşir
+    private List<PlayerBatchItemDto> batchByNames(List<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        Map<String, List<PlayerResponseDto>> playersByName = new HashMap<>();
+        for (Player player : playerRepository.findAllByPlayerNameIn(names.stream().map(String::trim).toList())) {
+            playersByName.computeIfAbsent(player.getPlayerName().toLowerCase(Locale.ROOT), name -> new ArrayList<>())
+                    .add(entityMapper.entityToDto(player, PlayerResponseDto.class));
+        }
+        return names.stream()
+                .map(name -> batchItem(name, playersByName.getOrDefault(name.trim().toLowerCase(Locale.ROOT), List.of())))
+                .toList();
+    }
+
+    //takımlar önce getPlayersFromTeam'in cache'inden okunur, sadece cache'te olmayanlar tek sorguyla getirilip cache'e yazılır
+    private List<PlayerBatchItemDto> batchByTeams(List<String> teams) {
+        if (teams.isEmpty()) {
+            return List.of();
+        }
+        Cache teamCache = cacheManager.getCache(CacheConfig.PLAYERS_BY_TEAM_CACHE);
+        Map<String, List<PlayerResponseDto>> playersByTeam = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String team : teams) {
+            String key = CacheConfig.teamKey(team);
+            @SuppressWarnings("unchecked")
+            List<PlayerResponseDto> cached = teamCache != null ? teamCache.get(key, List.class) : null;
+            if (cached != null) {
+                playersByTeam.put(key, cached);
+            } else {
+                missing.add(key);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<String, List<PlayerResponseDto>> loaded = new HashMap<>();
+            for (PlayerResponseDto player : playerRepository.findAllByTeamKeyIn(missing)) {
+                loaded.computeIfAbsent(CacheConfig.teamKey(player.getTeam()), team -> new ArrayList<>())
+                        .add(player);
+            }
+            loaded.forEach((key, players) -> {
+                List<PlayerResponseDto> immutable = List.copyOf(players);
+                playersByTeam.put(key, immutable);
+                if (teamCache != null) {
+                    teamCache.put(key, immutable);
+                }
+            });
+        }
+
+        return teams.stream()
+                .map(team -> batchItem(team, playersByTeam.getOrDefault(CacheConfig.teamKey(team), List.of())))
+                .toList();
+    }
+
+    private static PlayerBatchItemDto batchItem(String key, List<PlayerResponseDto> players) {
+        return new PlayerBatchItemDto(key, !players.isEmpty(), players);
+    }
+
+    //null/boş değerler atılır, aynı anahtar (normalize edilmiş haliyle) bir kez aranır, istek sırası korunur
+    private static <T> List<T> distinct(List<T> values, Function<? super T, ?> normalizer) {
+        if (values == null) {
+            return List.of();
+        }
+        Set<Object> seen = new HashSet<>();
+        List<T> result = new ArrayList<>(values.size());
+        for (T value : values) {
+            if (value == null || (value instanceof String text && text.isBlank())) {
+                continue;
+            }
+            if (seen.add(normalizer.apply(value))) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
     @Override
     public PlayerResponseDto addPlayer(PlayerRequestDto playerRequestDto){
         Player player = entityMapper.dtoToEntity(playerRequestDto, Player.class);
         Player savedPlayer = playerRepository.save(player);
+        eventPublisher.publishEvent(PlayerChangedEvent.added(savedPlayer));
         return entityMapper.entityToDto(savedPlayer,PlayerResponseDto.class);
     }
 
+    //Satır önceden okunmaz: tek bir UPDATE sadece dolu alanları yazar ve version'ı artırır. İstemci version gönderdiyse
+    //(gövdede ya da If-Match ile) UPDATE satır o version'dayken çalışır, değilse koşulsuzdur.
+    //Event değişikliğin öncesini taşımaz; dinleyiciler eski hali kendi kopyalarından bulur.
+    @Transactional
     @Override
-    public PlayerResponseDto updatePlayer(Long id, PlayerRequestDto playerRequestDto){
-        Player player = playerRepository.findById(id)
-                .orElseThrow(() -> new PlayerNotFoundException("Player not found!"));
-
-        modelMapper.getConfiguration().setPropertyCondition(Conditions.isNotNull());
-        modelMapper.map(playerRequestDto, player);
+    public OptionalLong updatePlayer(Long id, PlayerRequestDto playerRequestDto){
+        Long expectedVersion = playerRequestDto.getVersion();
+        if (playerRepository.updateNonNullFields(id, expectedVersion, playerRequestDto) == 0) {
+            //hata yolu: 404 ile 409'u ayırmak için satırın varlığına bakılır
+            if (expectedVersion != null && playerRepository.existsById(id)) {
+                throw new ObjectOptimisticLockingFailureException(Player.class, id);
+            }
+            throw new PlayerNotFoundException("Player not found!");
+        }
 
-        Player savedPlayer = playerRepository.save(player);
-        return entityMapper.entityToDto(savedPlayer,PlayerResponseDto.class);
+        Long newVersion = expectedVersion != null ? expectedVersion + 1 : null;
+        eventPublisher.publishEvent(PlayerChangedEvent.updated(id, playerRequestDto, newVersion));
+        return newVersion != null ? OptionalLong.of(newVersion) : OptionalLong.empty();
     }
 
+    //Satır önceden okunmaz, silme tek bir DELETE ile yapılır; 0 satır dönerse oyuncu yoktur (ya da arada silinmiştir).
     @Transactional
     @Override
     public void deletePlayer(Long id){
-        Player player = playerRepository.findById(id)
-                        .orElseThrow(()-> new PlayerNotFoundException("Player not found!"));
-
-        playerRepository.deleteById(player.getId());
+        if (playerRepository.removeById(id) == 0) {
+            throw new PlayerNotFoundException("Player not found!");
+        }
+        eventPublisher.publishEvent(PlayerChangedEvent.deleted(id));
     }
 
 }
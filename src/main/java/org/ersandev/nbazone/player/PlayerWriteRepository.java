@@ -0,0 +1,11 @@
+package org.ersandev.nbazone.player;
+
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+
+//PlayerRepository'ye eklenen özel yazma parçası, SET listesi istekte dolu gelen alanlara göre çalışma anında kurulur
+public interface PlayerWriteRepository {
+
+    //etkilenen satır sayısını döner: 0 ise satır yok ya da version değişmiş.
+    //expectedVersion null ise version kontrol edilmez, sadece artırılır.
+    int updateNonNullFields(Long id, Long expectedVersion, PlayerRequestDto changes);
+}
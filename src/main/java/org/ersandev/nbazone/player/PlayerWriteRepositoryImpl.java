@@ -0,0 +1,55 @@
+package org.ersandev.nbazone.player;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+
+//Tek bir UPDATE player_stats SET <dolu alanlar>, version = version + 1 WHERE id = ? [AND version = ?].
+//Entity yüklenip dirty checking yapılmaz, değişmeyen kolonlar SET listesine girmez.
+//CSV import'tan gelen eski satırlarda version null olabilir, bu yüzden null 0 sayılır.
+class PlayerWriteRepositoryImpl implements PlayerWriteRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateNonNullFields(Long id, Long expectedVersion, PlayerRequestDto changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Player> update = cb.createCriteriaUpdate(Player.class);
+        Root<Player> player = update.from(Player.class);
+
+        setIfPresent(update, "playerName", changes.getPlayerName());
+        setIfPresent(update, "team", changes.getTeam());
+        setIfPresent(update, "age", changes.getAge());
+        setIfPresent(update, "min", changes.getMin());
+        setIfPresent(update, "pts", changes.getPts());
+        setIfPresent(update, "fgPercent", changes.getFgPercent());
+        setIfPresent(update, "threePPercent", changes.getThreePPercent());
+        setIfPresent(update, "ftPercent", changes.getFtPercent());
+        setIfPresent(update, "dreb", changes.getDreb());
+        setIfPresent(update, "reb", changes.getReb());
+        setIfPresent(update, "ast", changes.getAst());
+        setIfPresent(update, "stl", changes.getStl());
+        setIfPresent(update, "blk", changes.getBlk());
+
+        Expression<Long> version = cb.coalesce(player.<Long>get("version"), 0L);
+        update.set(player.<Long>get("version"), cb.sum(version, 1L));
+        if (expectedVersion == null) {
+            update.where(cb.equal(player.get("id"), id));
+        } else {
+            update.where(cb.equal(player.get("id"), id), cb.equal(version, expectedVersion));
+        }
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private static void setIfPresent(CriteriaUpdate<Player> update, String attribute, Object value) {
+        if (value != null) {
+            update.set(attribute, value);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package org.ersandev.nbazone.player;
+
+//Toplu yazma işlemlerinden (CSV import gibi) sonra satır başına PlayerChangedEvent yerine bir kez yayınlanır.
+//Dinleyiciler tek tek anahtar silmek yerine tüm player verisini yeniden yükler/temizler.
+public record PlayersBulkChangedEvent(int affectedRows) {
+}
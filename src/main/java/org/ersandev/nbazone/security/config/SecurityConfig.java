@@ -1,9 +1,13 @@
 package org.ersandev.nbazone.security.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.ersandev.nbazone.security.jwt.AuthEntryPointJwt;
 import org.ersandev.nbazone.security.jwt.JwtAuthenticationFilter;
+import org.ersandev.nbazone.security.password.BoundedPasswordEncoder;
+import org.ersandev.nbazone.security.ratelimit.RateLimitFilter;
 import org.ersandev.nbazone.security.userdetail.CustomUserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -25,9 +29,10 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final CustomUserDetailsService userDetailsService;
     private final AuthEntryPointJwt authEntryPointJwt;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationProvider authenticationProvider) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .exceptionHandling(exeption-> exeption.authenticationEntryPoint(authEntryPointJwt))
@@ -46,23 +51,36 @@ public class SecurityConfig {
                         .requestMatchers("/v3/api-docs/**").permitAll()
                         .requestMatchers("/api/test/**").permitAll()
                         .requestMatchers("/images/**").permitAll()
+                        //Prometheus scrape'i cookie taşımaz; metrics endpoint'i ise sadece admin'e açık
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
-                .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .authenticationProvider(authenticationProvider)
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                //limit aşan istek kullanıcı yükleme ve bcrypt maliyetine girmeden 429 alır
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
         return http.build();
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider  = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        //kayıtlı hash'in strength'i düşükse başarılı login'de şifre yeni strength ile tekrar hash'lenip kaydedilir
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
+
+    //poolSize 0 ise CPU sayısı kadar thread açılır
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${spring.app.passwordHashStrength:10}") int strength,
+                                           @Value("${spring.app.passwordHashPoolSize:0}") int poolSize,
+                                           @Value("${spring.app.passwordHashQueueCapacity:64}") int queueCapacity,
+                                           MeterRegistry meterRegistry) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueCapacity, meterRegistry);
     }
 
     @Bean
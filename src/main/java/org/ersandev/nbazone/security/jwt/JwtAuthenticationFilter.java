@@ -1,14 +1,18 @@
 package org.ersandev.nbazone.security.jwt;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.security.userdetail.CustomUserDetails;
 import org.ersandev.nbazone.security.userdetail.CustomUserDetailsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -16,15 +20,38 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+//Filtrenin üç aşaması (cookie okuma, token doğrulama, kullanıcı yükleme) "auth.jwt.filter" timer'ı ile
+//phase tag'i altında ölçülür. Timer'lar constructor'da bir kez kaydedilir, istek başına allocation yapılmaz.
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final JwtUtils jwtUtils;
+    private final JwtTokenCache jwtTokenCache;
     private final CustomUserDetailsService userDetailsService;
+    private final JwtRevocationChecker revocationChecker;
+
+    private final Timer cookieTimer;
+    private final Timer verifyTimer;
+    private final Timer userTimer;
+
+    public JwtAuthenticationFilter(JwtUtils jwtUtils,
+                                   JwtTokenCache jwtTokenCache,
+                                   CustomUserDetailsService userDetailsService,
+                                   JwtRevocationChecker revocationChecker,
+                                   MeterRegistry meterRegistry) {
+        this.jwtUtils = jwtUtils;
+        this.jwtTokenCache = jwtTokenCache;
+        this.userDetailsService = userDetailsService;
+        this.revocationChecker = revocationChecker;
+        this.cookieTimer = timer(meterRegistry, "cookie");
+        this.verifyTimer = timer(meterRegistry, "verify");
+        this.userTimer = timer(meterRegistry, "user");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -32,27 +59,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
             //request'te bulunan cookie'den jwt (token) almak için
+            long start = System.nanoTime();
             String jwt = parseJwt(request);
+            start = record(cookieTimer, start);
 
-            //şayet jwt null değilse ve validate ettiğimizde geçerli ise
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
+            //şayet jwt null değilse cache'ten veya doğrulayarak al, cookie yoksa verify ve user aşamaları ölçülmez
+            VerifiedJwt verifiedJwt = null;
+            if (jwt != null) {
+                verifiedJwt = jwtTokenCache.get(jwt, jwtUtils.keyGeneration(), jwtUtils::verifyJwtToken);
+                start = record(verifyTimer, start);
+            }
+
+            //token geçerli ise
+            if (verifiedJwt != null) {
                 //jwt'den username'i al
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
+                String username = verifiedJwt.subject();
 
-                // aldığımız bu username ile user'ı bul ve userDetails variable'ına ata
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                // claims-principal modunda user'ı token'dan kur, değilse username ile user'ı bul ve userDetails variable'ına ata
+                UserDetails userDetails = jwtUtils.isClaimsPrincipalEnabled() && verifiedJwt.carriesPrincipal()
+                        ? principalFromClaims(verifiedJwt)
+                        : userDetailsService.loadUserByUsername(username);
+                record(userTimer, start);
 
-                //authentication yarat ve içine userDetails ve otorite'leri (roles) ekle
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
+                if (userDetails != null) {
+                    //authentication yarat ve içine userDetails ve otorite'leri (roles) ekle
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities()
+                    );
 
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                //authentication'ı SecurityContextHolder'a set et
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    //authentication'ı SecurityContextHolder'a set et
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception e) {
             logger.error(e.getMessage());
@@ -61,6 +102,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     }
 
+    private CustomUserDetails principalFromClaims(VerifiedJwt verifiedJwt) {
+        if (revocationChecker.isRevoked(verifiedJwt)) {
+            logger.warn("JWT roles no longer match user {}", verifiedJwt.subject());
+            return null;
+        }
+        List<GrantedAuthority> authorities = verifiedJwt.roles().stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                .toList();
+        return new CustomUserDetails(verifiedJwt.userId(), verifiedJwt.subject(), null, null, authorities);
+    }
+
+    //geçen süreyi kaydeder ve bir sonraki aşamanın başlangıcı olarak şimdiki zamanı döner
+    private static long record(Timer timer, long start) {
+        long now = System.nanoTime();
+        timer.record(now - start, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("auth.jwt.filter")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String jwt = jwtUtils.getJwtFromCookies(request);
         logger.debug("AuthTokenFilter.java: {}", jwt);
@@ -0,0 +1,9 @@
+package org.ersandev.nbazone.security.jwt;
+
+public enum JwtFailureReason {
+    MALFORMED,
+    EXPIRED,
+    UNSUPPORTED,
+    EMPTY,
+    INVALID_SIGNATURE
+}
@@ -0,0 +1,18 @@
+package org.ersandev.nbazone.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+public record JwtParseResult(Claims claims, JwtFailureReason failureReason) {
+
+    public static JwtParseResult valid(Claims claims) {
+        return new JwtParseResult(claims, null);
+    }
+
+    public static JwtParseResult invalid(JwtFailureReason failureReason) {
+        return new JwtParseResult(null, failureReason);
+    }
+
+    public boolean isValid() {
+        return failureReason == null;
+    }
+}
@@ -0,0 +1,70 @@
+package org.ersandev.nbazone.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.ersandev.nbazone.user.AppRole;
+import org.ersandev.nbazone.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+//Claims-principal modunda token'daki roller, kullanıcının güncel rolleriyle karşılaştırılır.
+//Güncel roller kısa bir TTL ile cache'lenir, yani her kullanıcı için TTL başına en fazla bir hafif sorgu atılır.
+//Rolleri değişen veya silinen kullanıcının eski token'ı en geç TTL kadar sonra reddedilir.
+@Component
+public class JwtRevocationChecker {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Set<String>> currentRoles;
+
+    public JwtRevocationChecker(UserRepository userRepository,
+                                @Value("${spring.app.jwtRevocationCheckTtlMs:30000}") long ttlMs,
+                                @Value("${spring.app.jwtCacheMaxSize}") long maxSize,
+                                MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.currentRoles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, currentRoles, "jwtRevocation");
+    }
+
+    public boolean isRevoked(VerifiedJwt verifiedJwt) {
+        Set<String> roles = currentRoles(verifiedJwt.subject());
+        return roles.isEmpty() || !roles.equals(Set.copyOf(verifiedJwt.roles()));
+    }
+
+    public void invalidate(String username) {
+        currentRoles.invalidate(username);
+    }
+
+    public void invalidateAll() {
+        currentRoles.invalidateAll();
+    }
+
+    //LoadingCache kullanılmadı: Caffeine loader'ı ConcurrentHashMap.compute içinde (synchronized bin kilidi) çalıştırır,
+    //virtual thread modunda oradaki JDBC çağrısı carrier thread'i pinler. Sorgu kilidin dışında atılır,
+    //aynı anda gelen iki istek aynı kullanıcıyı iki kez yükleyebilir, bu zararsızdır.
+    private Set<String> currentRoles(String username) {
+        Set<String> roles = currentRoles.getIfPresent(username);
+        if (roles == null) {
+            roles = loadRoles(username);
+            currentRoles.put(username, roles);
+        }
+        return roles;
+    }
+
+    private Set<String> loadRoles(String username) {
+        List<AppRole> roles = userRepository.findRoleNamesByUsername(username);
+        return roles.stream()
+                .map(AppRole::name)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
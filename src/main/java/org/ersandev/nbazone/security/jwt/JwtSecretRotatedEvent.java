@@ -0,0 +1,5 @@
+package org.ersandev.nbazone.security.jwt;
+
+// JwtUtils secret'ı değiştirdiğinde yayınlanır; eski key ile doğrulanmış cache kayıtları artık geçersizdir
+public record JwtSecretRotatedEvent() {
+}
@@ -0,0 +1,96 @@
+package org.ersandev.nbazone.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+//Doğrulanmış token'ları SHA-256 özetine göre tutar, böylece aynı token her istekte yeniden parse edilip imzası kontrol edilmez.
+//Her kayıt token'ın exp zamanında cache'den düşer; geçersiz token'lar cache'e hiç girmez.
+//Secret rotasyonunda invalidateAll yetmez: rotasyondan önce başlamış bir doğrulama invalidateAll'dan sonra put edebilir.
+//Bu yüzden kayıtlar doğrulayan key'in generation'ını taşır, güncel generation'dan farklı olanlar miss sayılır.
+@Component
+public class JwtTokenCache {
+
+    private final Cache<TokenKey, VerifiedJwt> cache;
+
+    public JwtTokenCache(@Value("${spring.app.jwtCacheMaxSize}") long maxSize,
+                         MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtTokens");
+    }
+
+    public VerifiedJwt get(String token, long keyGeneration, Function<String, VerifiedJwt> verifier) {
+        TokenKey key = TokenKey.of(token);
+        VerifiedJwt cached = cache.getIfPresent(key);
+        if (cached != null && cached.keyGeneration() == keyGeneration && !cached.isExpired(System.currentTimeMillis())) {
+            return cached;
+        }
+
+        VerifiedJwt verified = verifier.apply(token);
+        if (verified != null) {
+            cache.put(key, verified);
+        }
+        return verified;
+    }
+
+    @EventListener(JwtSecretRotatedEvent.class)
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private record TokenKey(long high, long low) {
+
+        static TokenKey of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(sha256().digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenKey(digest.getLong(), digest.getLong());
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<TokenKey, VerifiedJwt> {
+
+        @Override
+        public long expireAfterCreate(TokenKey key, VerifiedJwt value, long currentTime) {
+            long remainingMs = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenKey key, VerifiedJwt value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenKey key, VerifiedJwt value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,38 +1,75 @@
 package org.ersandev.nbazone.security.jwt;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import org.ersandev.nbazone.security.userdetail.CustomUserDetails;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.WebUtils;
 
 import javax.crypto.SecretKey;
-import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 public class JwtUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
 
-    @Value("${spring.app.jwtSecret}")
-    private String jwtSecret;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
 
-    @Value("${spring.app.jwtExpirationMs}")
-    private int jwtExpirationMs;
+    private final int jwtExpirationMs;
 
-    @Value("${spring.nba.app.jwtCookieName}")
-    private String jwtCookie;
+    private final String jwtCookie;
+
+    private final boolean claimsPrincipal;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    //"auth.jwt.failures" sayaçları sebep başına açılışta bir kez kaydedilir, hata yolunda sadece increment yapılır
+    private final Map<JwtFailureReason, Counter> failureCounters = new EnumMap<>(JwtFailureReason.class);
+
+    //key ve parser uygulama açılırken bir kez oluşturulur, secret değişirse ikisi birlikte atomik olarak değiştirilir.
+    //generation her rotasyonda artar; JwtTokenCache eski generation ile doğrulanmış kayıtları kullanmaz.
+    private volatile SigningKeys signingKeys;
+
+    public JwtUtils(@Value("${spring.app.jwtSecret}") String jwtSecret,
+                    @Value("${spring.app.jwtExpirationMs}") int jwtExpirationMs,
+                    @Value("${spring.nba.app.jwtCookieName}") String jwtCookie,
+                    @Value("${spring.app.jwtClaimsPrincipal:false}") boolean claimsPrincipal,
+                    ApplicationEventPublisher eventPublisher,
+                    MeterRegistry meterRegistry) {
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.jwtCookie = jwtCookie;
+        this.claimsPrincipal = claimsPrincipal;
+        this.eventPublisher = eventPublisher;
+        this.signingKeys = SigningKeys.from(jwtSecret, 0);
+        for (JwtFailureReason reason : JwtFailureReason.values()) {
+            failureCounters.put(reason, Counter.builder("auth.jwt.failures")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
 
     public String getJwtFromCookies(HttpServletRequest request) {
         Cookie cookie = WebUtils.getCookie(request, jwtCookie);
@@ -44,7 +81,15 @@ public class JwtUtils {
     }
 
     public ResponseCookie generateJwtCookie(CustomUserDetails user) {
-        String jwt = generateTokenFromUsername(user.getUsername());
+        String jwt;
+        if (claimsPrincipal) {
+            List<String> roles = user.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .toList();
+            jwt = generateTokenFromUsername(user.getUsername(), user.getId(), roles);
+        } else {
+            jwt = generateTokenFromUsername(user.getUsername());
+        }
         ResponseCookie cookie = ResponseCookie.from(jwtCookie, jwt)
                 .path("/api")
                 .maxAge(24 * 60 * 60)
@@ -62,40 +107,112 @@ public class JwtUtils {
     }
 
     public String generateTokenFromUsername(String username) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .subject(username)
-                .issuedAt(new Date())
-                .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + jwtExpirationMs))
+                .signWith(signingKeys.key())
                 .compact();
     }
 
+    //claims-principal modunda user id ve roller token'a eklenir, filtre user'ı veritabanına gitmeden kurar
+    public String generateTokenFromUsername(String username, Long userId, Collection<String> roles) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .subject(username)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLES_CLAIM, roles)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + jwtExpirationMs))
+                .signWith(signingKeys.key())
+                .compact();
+    }
+
+    public boolean isClaimsPrincipalEnabled() {
+        return claimsPrincipal;
+    }
+
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith((SecretKey) key())
-                .build().parseSignedClaims(token)
+        return signingKeys.parser()
+                .parseSignedClaims(token)
                 .getPayload().getSubject();
     }
 
-    private Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+    public synchronized void rotateSecret(String newSecret) {
+        this.signingKeys = SigningKeys.from(newSecret, signingKeys.generation() + 1);
+        logger.info("JWT signing key rotated");
+        eventPublisher.publishEvent(new JwtSecretRotatedEvent());
+    }
+
+    public long keyGeneration() {
+        return signingKeys.generation();
     }
 
     public boolean validateJwtToken(String token) {
+        return parseJwtToken(token).isValid();
+    }
+
+    //token'ı tek seferde parse edip doğrular; geçerli değilse null döner.
+    //Sonuç doğrulamada kullanılan key'in generation'ı ile işaretlenir: doğrulama sürerken secret rotate edilirse
+    //cache'e yazılan kayıt eski generation'da kalır ve bir sonraki istekte miss sayılır.
+    public VerifiedJwt verifyJwtToken(String token) {
+        SigningKeys keys = signingKeys;
+        JwtParseResult result = parseJwtToken(token, keys);
+        if (!result.isValid()) {
+            return null;
+        }
+        Claims claims = result.claims();
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        List<String> roles = rolesFrom(claims.get(ROLES_CLAIM));
+        return new VerifiedJwt(claims.getSubject(), expiresAt, userId, roles, keys.generation());
+    }
+
+    private static List<String> rolesFrom(Object rolesClaim) {
+        if (!(rolesClaim instanceof Collection<?> roles)) {
+            return null;
+        }
+        return roles.stream().map(String::valueOf).toList();
+    }
+
+    //token'ı tek seferde parse eder; ya doğrulanmış claim'leri ya da hatanın sebebini döner
+    public JwtParseResult parseJwtToken(String token) {
+        return parseJwtToken(token, signingKeys);
+    }
+
+    private JwtParseResult parseJwtToken(String token, SigningKeys keys) {
         try {
-            Jwts.parser().verifyWith((SecretKey) key()).build().parseSignedClaims(token);
-            return true;
+            return JwtParseResult.valid(keys.parser().parseSignedClaims(token).getPayload());
         } catch (MalformedJwtException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
+            return failed(JwtFailureReason.MALFORMED);
         } catch (ExpiredJwtException e) {
             logger.error("JWT token is expired: {}", e.getMessage());
+            return failed(JwtFailureReason.EXPIRED);
         } catch (UnsupportedJwtException e) {
             logger.error("JWT token is unsupported: {}", e.getMessage());
+            return failed(JwtFailureReason.UNSUPPORTED);
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims string is empty: {}", e.getMessage());
+            return failed(JwtFailureReason.EMPTY);
+        } catch (SecurityException e) {
+            logger.error("JWT signature is invalid: {}", e.getMessage());
+            return failed(JwtFailureReason.INVALID_SIGNATURE);
         }
-        return false;
     }
 
+    private JwtParseResult failed(JwtFailureReason reason) {
+        failureCounters.get(reason).increment();
+        return JwtParseResult.invalid(reason);
+    }
+
+    private record SigningKeys(SecretKey key, JwtParser parser, long generation) {
+
+        static SigningKeys from(String secret, long generation) {
+            SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+            return new SigningKeys(key, Jwts.parser().verifyWith(key).build(), generation);
+        }
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package org.ersandev.nbazone.security.jwt;
+
+import java.util.List;
+
+// İmzası doğrulanmış bir token'dan filtrenin ihtiyaç duyduğu alanlar.
+// userId ve roles sadece token claim'lerle üretildiyse doludur, aksi halde null'dır.
+// keyGeneration token'ı doğrulayan imza key'inin generation'ıdır (bkz. JwtUtils.keyGeneration()).
+public record VerifiedJwt(String subject, long expiresAtMillis, Long userId, List<String> roles, long keyGeneration) {
+
+    public VerifiedJwt(String subject, long expiresAtMillis, long keyGeneration) {
+        this(subject, expiresAtMillis, null, null, keyGeneration);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    public boolean carriesPrincipal() {
+        return userId != null && roles != null;
+    }
+}
@@ -0,0 +1,37 @@
+package org.ersandev.nbazone.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+//Token bucket'ın GCRA (generic cell rate algorithm) hali: bucket'ın bütün durumu tek bir long,
+//"theoretical arrival time" (TAT). Token sayısı ve son dolum zamanı ayrı ayrı tutulmadığı için
+//güncelleme tek bir CAS ile yapılır, hot path'te kilit yoktur.
+//TAT <= now ise bucket doludur; her istek TAT'ı bir emission interval ileri iter,
+//TAT now + tolerance'ı geçecekse istek reddedilir.
+final class GcraBucket {
+
+    private final AtomicLong theoreticalArrivalTime;
+
+    GcraBucket(long now) {
+        this.theoreticalArrivalTime = new AtomicLong(now);
+    }
+
+    //0: izin verildi, > 0: tekrar denemeden önce beklenmesi gereken nanosaniye
+    long tryAcquire(long now, long emissionIntervalNanos, long toleranceNanos) {
+        while (true) {
+            long current = theoreticalArrivalTime.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long waitNanos = next - now - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    //bucket en az idleNanos süredir tamamen dolu, silmek yeni bir bucket açmakla aynı sonucu verir
+    boolean isIdle(long now, long idleNanos) {
+        return now - theoreticalArrivalTime.get() >= idleNanos;
+    }
+}
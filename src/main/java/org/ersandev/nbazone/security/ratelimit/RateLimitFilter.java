@@ -0,0 +1,79 @@
+package org.ersandev.nbazone.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.security.jwt.JwtTokenCache;
+import org.ersandev.nbazone.security.jwt.JwtUtils;
+import org.ersandev.nbazone.security.jwt.VerifiedJwt;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+//SecurityConfig'te JwtAuthenticationFilter'dan önce çalışır, böylece limit aşan istek kullanıcı yükleme veya bcrypt maliyeti doğurmaz.
+//Geçerli bir JWT cookie'si varsa limit kullanıcı adına, yoksa istemci IP'sine göre tutulur.
+//Proxy arkasında doğru IP için server.forward-headers-strategy ayarlanmalıdır.
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final JwtUtils jwtUtils;
+    private final JwtTokenCache jwtTokenCache;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimiter.RouteLimit routeLimit = properties.isEnabled() ? rateLimiter.routeFor(path(request)) : null;
+        if (routeLimit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(routeLimit, clientKey(request));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        reject(request, response, waitNanos);
+    }
+
+    //servletPath servlet eşlemesine göre boş olabilir; StrictHttpFirewall normalize edilmemiş URI'leri zaten reddeder
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String jwt = jwtUtils.getJwtFromCookies(request);
+        VerifiedJwt verifiedJwt = jwt != null ? jwtTokenCache.get(jwt, jwtUtils.keyGeneration(), jwtUtils::verifyJwtToken) : null;
+        return verifiedJwt != null ? "u:" + verifiedJwt.subject() : "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("error", "too_many_requests");
+        body.put("message", "Rate limit exceeded, retry after " + retryAfterSeconds + " seconds");
+        body.put("path", path(request));
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
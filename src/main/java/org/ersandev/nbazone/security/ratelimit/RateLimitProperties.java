@@ -0,0 +1,36 @@
+package org.ersandev.nbazone.security.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//spring.app.rateLimit.routes[n] listesi sırayla denenir, isteğin yoluna uyan ilk kural uygulanır.
+//Hiçbir kurala uymayan istek limitlenmez.
+@Component
+@ConfigurationProperties(prefix = "spring.app.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    //bu süre boyunca dolu kalan (hiç kullanılmayan) bucket'lar silinir
+    private long idleEvictionMs = 300000;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        //Ant tarzı yol, örn. /api/auth/signin veya /api/v1/**
+        private String pattern;
+        //arka arkaya yapılabilecek en fazla istek (burst)
+        private int capacity;
+        //dakikada geri dolan istek hakkı
+        private int refillPerMinute;
+    }
+}
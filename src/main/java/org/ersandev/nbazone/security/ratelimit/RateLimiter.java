@@ -0,0 +1,118 @@
+package org.ersandev.nbazone.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+//Route başına ayrı bucket tabloları tutar. Anahtar JWT subject'i ("u:" önekli) veya istemci IP'sidir ("ip:" önekli).
+//Var olan bucket'a erişim ConcurrentHashMap.get ile kilitsizdir; computeIfAbsent sadece ilk istekte çalışır.
+//Sayaçlar (izin verilen/reddedilen/silinen istek ve aktif bucket sayısı) Micrometer'a açılır.
+@Component
+public class RateLimiter {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<RouteLimit> routeLimits;
+    private final long idleNanos;
+    private final Counter evictedCounter;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(properties.getIdleEvictionMs());
+        this.routeLimits = properties.getRoutes().stream()
+                .map(route -> new RouteLimit(route, meterRegistry))
+                .toList();
+        this.evictedCounter = Counter.builder("ratelimit.buckets.evicted")
+                .description("Idle rate limit buckets removed")
+                .register(meterRegistry);
+        Gauge.builder("ratelimit.buckets.active", this, RateLimiter::activeBuckets)
+                .description("Rate limit buckets currently tracked")
+                .register(meterRegistry);
+    }
+
+    //yola uyan kural yoksa null
+    public RouteLimit routeFor(String path) {
+        for (RouteLimit routeLimit : routeLimits) {
+            if (pathMatcher.match(routeLimit.pattern, path)) {
+                return routeLimit;
+            }
+        }
+        return null;
+    }
+
+    //0: izin verildi, > 0: Retry-After için beklenmesi gereken nanosaniye
+    public long tryAcquire(RouteLimit routeLimit, String key) {
+        return tryAcquire(routeLimit, key, System.nanoTime());
+    }
+
+    long tryAcquire(RouteLimit routeLimit, String key, long now) {
+        GcraBucket bucket = routeLimit.buckets.get(key);
+        if (bucket == null) {
+            bucket = routeLimit.buckets.computeIfAbsent(key, k -> new GcraBucket(now));
+        }
+        long waitNanos = bucket.tryAcquire(now, routeLimit.emissionIntervalNanos, routeLimit.toleranceNanos);
+        if (waitNanos == 0) {
+            routeLimit.allowedCounter.increment();
+        } else {
+            routeLimit.rejectedCounter.increment();
+        }
+        return waitNanos;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.app.rateLimit.idleEvictionMs:300000}")
+    public void evictIdleBuckets() {
+        evictIdleBuckets(System.nanoTime());
+    }
+
+    void evictIdleBuckets(long now) {
+        for (RouteLimit routeLimit : routeLimits) {
+            int before = routeLimit.buckets.size();
+            routeLimit.buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+            evictedCounter.increment(Math.max(0, before - routeLimit.buckets.size()));
+        }
+    }
+
+    int activeBuckets() {
+        int total = 0;
+        for (RouteLimit routeLimit : routeLimits) {
+            total += routeLimit.buckets.size();
+        }
+        return total;
+    }
+
+    public static final class RouteLimit {
+        private final String pattern;
+        private final long emissionIntervalNanos;
+        private final long toleranceNanos;
+        private final ConcurrentHashMap<String, GcraBucket> buckets = new ConcurrentHashMap<>();
+        private final Counter allowedCounter;
+        private final Counter rejectedCounter;
+
+        RouteLimit(RateLimitProperties.Route route, MeterRegistry meterRegistry) {
+            if (route.getCapacity() <= 0 || route.getRefillPerMinute() <= 0) {
+                throw new IllegalArgumentException("Rate limit for " + route.getPattern()
+                        + " needs a positive capacity and refillPerMinute");
+            }
+            this.pattern = route.getPattern();
+            this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / route.getRefillPerMinute();
+            this.toleranceNanos = emissionIntervalNanos * route.getCapacity();
+            this.allowedCounter = Counter.builder("ratelimit.requests")
+                    .tag("route", pattern)
+                    .tag("result", "allowed")
+                    .register(meterRegistry);
+            this.rejectedCounter = Counter.builder("ratelimit.requests")
+                    .tag("route", pattern)
+                    .tag("result", "rejected")
+                    .register(meterRegistry);
+        }
+
+        public String getPattern() {
+            return pattern;
+        }
+    }
+}
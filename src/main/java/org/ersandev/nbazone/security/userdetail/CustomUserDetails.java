@@ -1,7 +1,8 @@
 package org.ersandev.nbazone.security.userdetail;
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import org.ersandev.nbazone.user.User;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -11,21 +12,24 @@ import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
-@NoArgsConstructor
-@Data
+//UserDetails cache'inde istekler arasında paylaşıldığı için değiştirilemez: alanlar final, setter yok,
+//yetki listesi kopyalanır. toString parola hash'ini yazmaz.
+@Getter
+@EqualsAndHashCode
+@ToString
 public class CustomUserDetails implements UserDetails {
 
+    private final Long id;
 
-    private Long id;
+    private final String username;
 
-    private String username;
-
-    private String email;
+    private final String email;
 
     @JsonIgnore
-    private String password;
+    @ToString.Exclude
+    private final String password;
 
-    private Collection<? extends GrantedAuthority> authorities;
+    private final List<GrantedAuthority> authorities;
 
     public CustomUserDetails(Long id, String username, String email, String password,
                            Collection<? extends GrantedAuthority> authorities) {
@@ -33,7 +37,7 @@ public class CustomUserDetails implements UserDetails {
         this.username = username;
         this.email = email;
         this.password = password;
-        this.authorities = authorities;
+        this.authorities = List.copyOf(authorities);
     }
 
     public static CustomUserDetails build(User user) {
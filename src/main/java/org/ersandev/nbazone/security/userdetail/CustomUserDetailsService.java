@@ -1,20 +1,27 @@
 package org.ersandev.nbazone.security.userdetail;
 
 import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.config.CacheConfig;
 import org.ersandev.nbazone.user.User;
 import org.ersandev.nbazone.user.UserRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
+    //user veya rolleri değiştiğinde kayıt UserCacheInvalidator tarafından silinir.
+    //Cache'teki nesne isteklerce paylaşılır, bu yüzden CustomUserDetails değiştirilemez (immutable).
     @Override
+    @Cacheable(cacheNames = CacheConfig.USER_DETAILS_CACHE, key = "T(org.ersandev.nbazone.config.CacheConfig).userKey(#username)")
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
                 .orElseThrow( ()-> new UsernameNotFoundException("User Not Found with username: " + username));
@@ -23,5 +30,22 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     }
 
+    //DaoAuthenticationProvider, passwordEncoder.upgradeEncoding true döndüğünde login sırasında çağırır.
+    //Kayıt güncellenince cache'teki UserDetails UserCacheInvalidator tarafından silinir.
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow( ()-> new UsernameNotFoundException("User Not Found with username: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+
+        if (userDetails instanceof CustomUserDetails details) {
+            return new CustomUserDetails(details.getId(), details.getUsername(), details.getEmail(),
+                    newPassword, details.getAuthorities());
+        }
+        return CustomUserDetails.build(user);
+    }
+
 
 }
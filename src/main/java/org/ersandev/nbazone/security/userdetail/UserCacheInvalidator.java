@@ -0,0 +1,160 @@
+package org.ersandev.nbazone.security.userdetail;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.config.CacheConfig;
+import org.ersandev.nbazone.security.jwt.JwtRevocationChecker;
+import org.ersandev.nbazone.user.Role;
+import org.ersandev.nbazone.user.User;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+//users tablosuna veya user_role ilişkisine yapılan her yazma işleminde (signup, ileride eklenecek rol atamaları vs.)
+//ilgili kullanıcının cache'teki UserDetails kaydını ve rol kontrol kaydını siler.
+//Hibernate event'lerine bağlı olduğu için yazma işlemini yapan kodun cache'i bilmesine gerek yoktur.
+//Entity event'leri POST_COMMIT_* olduğu için zaten commit'ten sonra gelir. Collection event'lerinin commit sonrası
+//karşılığı yoktur, flush anında gelirler; silme işlemi transaction commit edilene kadar ertelenir (bkz. evictAfterCommit).
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidator implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+        PostCollectionRemoveEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+    private final JwtRevocationChecker revocationChecker;
+
+    @PostConstruct
+    void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        userDetailsCache().evict(CacheConfig.userKey(username));
+        revocationChecker.invalidate(username);
+    }
+
+    public void evictAll() {
+        userDetailsCache().clear();
+        revocationChecker.invalidateAll();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onEntityWrite(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onEntityWrite(event.getEntity());
+        //username değiştiyse eski anahtarı da sil
+        if (event.getEntity() instanceof User && event.getOldState() != null) {
+            int usernameIndex = event.getPersister().getPropertyIndex("username");
+            evict((String) event.getOldState()[usernameIndex]);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onEntityWrite(event.getEntity());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        onRolesWrite(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        onRolesWrite(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        onRolesWrite(event);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> entityClass = persister.getMappedClass();
+        return entityClass == User.class || entityClass == Role.class;
+    }
+
+    private void onEntityWrite(Object entity) {
+        if (entity instanceof User user) {
+            evict(user.getUsername());
+        } else if (entity instanceof Role) {
+            //bir rolün kendisi değişirse o role sahip herkes etkilenir
+            evictAll();
+        }
+    }
+
+    private void onRolesWrite(AbstractCollectionEvent event) {
+        if (event.getAffectedOwnerOrNull() instanceof User user) {
+            evictAfterCommit(user.getUsername());
+        }
+    }
+
+    //flush ile commit arasında gelen bir loadUserByUsername hâlâ eski rolleri okur; kayıt flush'ta silinseydi
+    //eski roller TTL boyunca yeniden cache'lenirdi. Rollback olursa veri değişmemiştir, silmeye gerek yoktur.
+    private void evictAfterCommit(String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(username);
+            }
+        });
+    }
+
+    private Cache userDetailsCache() {
+        return cacheManager.getCache(CacheConfig.USER_DETAILS_CACHE);
+    }
+}
@@ -0,0 +1,108 @@
+package org.ersandev.nbazone.stats;
+
+import java.util.Arrays;
+
+//Bir kolonun ordinal'lerini artan sırada tutan int dizileri için yardımcılar. Sıra (değer, id) çiftine göredir:
+//MySQL'deki gibi null (NaN) değerler en başta, eşit değerlerde id'si küçük olan önce.
+//Diziler paylaşılan snapshot'larda kullanıldığı için hiçbir metod parametre dizisini değiştirmez, kopya döner.
+final class AscendingOrdinals {
+
+    //bu boyuttan küçük aralıklarda merge yerine insertion sort
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private AscendingOrdinals() {
+    }
+
+    //tam kurulum: Integer[] ve comparator yerine ilkel dizilerle merge sort, O(n log n)
+    static int[] sort(double[] column, long[] ids) {
+        int[] order = new int[column.length];
+        Arrays.setAll(order, ordinal -> ordinal);
+        mergeSort(order, new int[order.length], 0, order.length, column, ids);
+        return order;
+    }
+
+    //ordinal'i column'daki değerine göre yerine ekler: O(log n) arama + O(n) kopya
+    static int[] insert(int[] order, int ordinal, double[] column, long[] ids) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(column, ids, order[mid], ordinal) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int[] result = new int[order.length + 1];
+        System.arraycopy(order, 0, result, 0, low);
+        result[low] = ordinal;
+        System.arraycopy(order, low, result, low + 1, order.length - low);
+        return result;
+    }
+
+    static int[] remove(int[] order, int ordinal) {
+        int index = indexOf(order, ordinal);
+        int[] result = new int[order.length - 1];
+        System.arraycopy(order, 0, result, 0, index);
+        System.arraycopy(order, index + 1, result, index, order.length - index - 1);
+        return result;
+    }
+
+    //silmede son ordinal boşalan yere taşınır; değeri ve id'si aynı kaldığı için dizideki yeri değişmez
+    static int[] removeAndRename(int[] order, int removed, int renamedFrom) {
+        int[] result = remove(order, removed);
+        if (renamedFrom != removed) {
+            result[indexOf(result, renamedFrom)] = removed;
+        }
+        return result;
+    }
+
+    private static int indexOf(int[] order, int ordinal) {
+        for (int i = 0; i < order.length; i++) {
+            if (order[i] == ordinal) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Ordinal " + ordinal + " is not in the order");
+    }
+
+    private static void mergeSort(int[] order, int[] buffer, int from, int to, double[] column, long[] ids) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int item = order[i];
+                int j = i - 1;
+                while (j >= from && compare(column, ids, order[j], item) > 0) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = item;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(order, buffer, from, mid, column, ids);
+        mergeSort(order, buffer, mid, to, column, ids);
+        if (compare(column, ids, order[mid - 1], order[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(order, from, buffer, from, to - from);
+        int left = from;
+        int right = mid;
+        int target = from;
+        while (left < mid && right < to) {
+            order[target++] = compare(column, ids, buffer[left], buffer[right]) <= 0 ? buffer[left++] : buffer[right++];
+        }
+        System.arraycopy(buffer, left, order, target, mid - left);
+        target += mid - left;
+        System.arraycopy(buffer, right, order, target, to - right);
+    }
+
+    private static int compare(double[] column, long[] ids, int a, int b) {
+        int byValue = Double.compare(ascendingKey(column[a]), ascendingKey(column[b]));
+        return byValue != 0 ? byValue : Long.compare(ids[a], ids[b]);
+    }
+
+    private static double ascendingKey(double value) {
+        return Double.isNaN(value) ? Double.NEGATIVE_INFINITY : value;
+    }
+}
@@ -0,0 +1,46 @@
+package org.ersandev.nbazone.stats;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.dto.LeaderboardEntryDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping("/leaderboard")
+    @Operation(summary = "Composite leaderboard", description = "Ranks players by a weighted sum of their stats, e.g. pts*1 + reb*1.2 + ast*1.5. Null stats count as 0.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Leaderboard computed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid formula, limit or age range"),
+            @ApiResponse(responseCode = "500",description = "Internal server error")
+    })
+    public ResponseEntity<List<LeaderboardEntryDto>> leaderboard(
+            @Parameter(description = "Weighted sum of stat fields", example = "pts*1 + reb*1.2 + ast*1.5")
+            @RequestParam String formula,
+            @Parameter(description = "Only players of this team", example = "LAL")
+            @RequestParam(required = false) String team,
+            @Parameter(description = "Minimum age (inclusive)", example = "20")
+            @RequestParam(required = false) Integer minAge,
+            @Parameter(description = "Maximum age (inclusive)", example = "25")
+            @RequestParam(required = false) Integer maxAge,
+            @Parameter(description = "Number of players to return (1-100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit){
+        return ResponseEntity.ok(leaderboardService.leaderboard(formula, team, minAge, maxAge, limit));
+    }
+}
@@ -0,0 +1,123 @@
+package org.ersandev.nbazone.stats;
+
+import org.ersandev.nbazone.exceptions.InvalidLeaderboardQueryException;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+//"pts*1 + reb*1.2 + ast*1.5" gibi ağırlıklı toplam. Her terim bir istatistik ve isteğe bağlı sayısal çarpanlardan oluşur,
+//terimler '+' veya '-' ile ayrılır. Aynı istatistik birden fazla geçerse ağırlıkları toplanır.
+//Null istatistikler skora 0 olarak katılır (ör. hiç üçlük atmamış oyuncunun threePPercent'i).
+public final class LeaderboardFormula {
+
+    private static final int MAX_LENGTH = 256;
+
+    private final Map<PlayerStat, Double> terms;
+
+    //motorun sıcak döngüsü map yerine paralel dizileri okur
+    private final PlayerStat[] stats;
+    private final double[] weights;
+
+    private LeaderboardFormula(Map<PlayerStat, Double> terms) {
+        this.terms = Collections.unmodifiableMap(terms);
+        this.stats = terms.keySet().toArray(new PlayerStat[0]);
+        this.weights = terms.values().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    public static LeaderboardFormula parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new InvalidLeaderboardQueryException("Formula must not be empty");
+        }
+        if (expression.length() > MAX_LENGTH) {
+            throw new InvalidLeaderboardQueryException("Formula must be at most " + MAX_LENGTH + " characters");
+        }
+        String compact = expression.replaceAll("\\s+", "");
+        Map<PlayerStat, Double> terms = new EnumMap<>(PlayerStat.class);
+
+        int start = 0;
+        double sign = 1;
+        if (compact.startsWith("+") || compact.startsWith("-")) {
+            sign = compact.charAt(0) == '-' ? -1 : 1;
+            start = 1;
+        }
+        for (int i = start; i <= compact.length(); i++) {
+            boolean separator = i == compact.length()
+                    || ((compact.charAt(i) == '+' || compact.charAt(i) == '-') && !isUnarySign(compact, i));
+            if (!separator) {
+                continue;
+            }
+            addTerm(terms, compact.substring(start, i), sign, expression);
+            if (i < compact.length()) {
+                sign = compact.charAt(i) == '-' ? -1 : 1;
+            }
+            start = i + 1;
+        }
+        return new LeaderboardFormula(terms);
+    }
+
+    public Map<PlayerStat, Double> terms() {
+        return terms;
+    }
+
+    PlayerStat[] stats() {
+        return stats;
+    }
+
+    double[] weights() {
+        return weights;
+    }
+
+    private static void addTerm(Map<PlayerStat, Double> terms, String term, double sign, String expression) {
+        if (term.isEmpty()) {
+            throw new InvalidLeaderboardQueryException("Empty term in formula: " + expression);
+        }
+        PlayerStat stat = null;
+        double weight = sign;
+        for (String factor : term.split("\\*", -1)) {
+            if (factor.isEmpty()) {
+                throw new InvalidLeaderboardQueryException("Invalid term in formula: " + term);
+            }
+            if (Character.isLetter(factor.charAt(0))) {
+                if (stat != null) {
+                    throw new InvalidLeaderboardQueryException("Only one stat is allowed per term: " + term);
+                }
+                stat = PlayerStat.fromFieldName(factor).orElseThrow(() ->
+                        new InvalidLeaderboardQueryException("Unknown stat in formula: " + factor));
+            } else {
+                weight *= parseWeight(factor);
+            }
+        }
+        if (stat == null) {
+            throw new InvalidLeaderboardQueryException("Term has no stat: " + term);
+        }
+        terms.merge(stat, weight, Double::sum);
+    }
+
+    private static double parseWeight(String factor) {
+        try {
+            double weight = Double.parseDouble(factor);
+            if (Double.isFinite(weight)) {
+                return weight;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new InvalidLeaderboardQueryException("Invalid weight in formula: " + factor);
+    }
+
+    //"pts*-1" veya "1.5e-3" içindeki işaret terim ayırıcı değil, sayının parçasıdır
+    private static boolean isUnarySign(String compact, int index) {
+        char previous = index > 0 ? compact.charAt(index - 1) : '*';
+        if (previous == '*') {
+            return true;
+        }
+        return index > 1
+                && (previous == 'e' || previous == 'E')
+                && Character.isDigit(compact.charAt(index - 2));
+    }
+
+    @Override
+    public String toString() {
+        return terms.toString();
+    }
+}
@@ -0,0 +1,19 @@
+package org.ersandev.nbazone.stats;
+
+import org.ersandev.nbazone.config.CacheConfig;
+
+//team null ise tüm takımlar, minAge/maxAge null ise o tarafta sınır yok.
+//Takım, SQL yolundaki team_key karşılaştırmasıyla aynı sonucu vermesi için iki tarafta da CacheConfig.teamKey ile eşlenir.
+public record LeaderboardQuery(LeaderboardFormula formula, String team, Integer minAge, Integer maxAge, int limit) {
+
+    //team null ise null
+    public String teamKey() {
+        return team == null ? null : CacheConfig.teamKey(team);
+    }
+
+    public boolean matches(String playerTeam, int age) {
+        return (team == null || teamKey().equals(CacheConfig.teamKey(playerTeam)))
+                && (minAge == null || age >= minAge)
+                && (maxAge == null || age <= maxAge);
+    }
+}
@@ -0,0 +1,48 @@
+package org.ersandev.nbazone.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.dto.LeaderboardEntryDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.exceptions.InvalidLeaderboardQueryException;
+import org.ersandev.nbazone.mapper.EntityMapper;
+import org.ersandev.nbazone.player.PlayerRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+//Ağırlıklı çoklu istatistik sıralaması. Stats engine açıksa bellekteki kolonlardan, değilse tek bir SQL sorgusuyla hesaplanır.
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    public static final int MAX_LIMIT = 100;
+
+    private final PlayerRepository playerRepository;
+    private final EntityMapper entityMapper;
+    private final Optional<PlayerStatsEngine> statsEngine;
+
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntryDto> leaderboard(String formula, String team, Integer minAge, Integer maxAge, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidLeaderboardQueryException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (minAge != null && maxAge != null && minAge > maxAge) {
+            throw new InvalidLeaderboardQueryException("minAge must not be greater than maxAge");
+        }
+        String teamFilter = team == null || team.isBlank() ? null : team.trim();
+        LeaderboardQuery query = new LeaderboardQuery(LeaderboardFormula.parse(formula), teamFilter, minAge, maxAge, limit);
+
+        List<ScoredPlayer> scored = statsEngine.map(engine -> engine.leaderboard(query))
+                .orElseGet(() -> playerRepository.findLeaderboard(query));
+
+        List<LeaderboardEntryDto> entries = new ArrayList<>(scored.size());
+        for (ScoredPlayer scoredPlayer : scored) {
+            entries.add(new LeaderboardEntryDto(entries.size() + 1, scoredPlayer.score(),
+                    entityMapper.entityToDto(scoredPlayer.player(), PlayerResponseDto.class)));
+        }
+        return entries;
+    }
+}
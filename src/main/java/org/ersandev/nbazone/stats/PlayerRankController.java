@@ -0,0 +1,57 @@
+package org.ersandev.nbazone.stats;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.dto.PlayerRankDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/v1/ranks")
+@RequiredArgsConstructor
+public class PlayerRankController {
+
+    private final PlayerRankService playerRankService;
+
+    @GetMapping("/{stat}/player/{id}")
+    @Operation(summary = "Get a player's league rank", description = "Rank (1 = highest) and percentile of the player's value for the given stat across the league.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rank fetched successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown stat"),
+            @ApiResponse(responseCode = "404", description = "Player not found"),
+            @ApiResponse(responseCode = "500",description = "Internal server error")
+    })
+    public ResponseEntity<PlayerRankDto> rankPlayer(
+            @Parameter(description = "Stat field name", example = "pts")
+            @PathVariable String stat,
+            @Parameter(description = "Player id", example = "22")
+            @PathVariable Long id){
+        return ResponseEntity.ok(playerRankService.rankPlayer(id, stat));
+    }
+
+    @GetMapping("/{stat}/team/{team}")
+    @Operation(summary = "Get league ranks of a team's players", description = "League rank and percentile of every player of the team for the given stat, best first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ranks fetched successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown stat"),
+            @ApiResponse(responseCode = "404", description = "Team not found"),
+            @ApiResponse(responseCode = "500",description = "Internal server error")
+    })
+    public ResponseEntity<List<PlayerRankDto>> rankTeam(
+            @Parameter(description = "Stat field name", example = "reb")
+            @PathVariable String stat,
+            @Parameter(description = "Team name", example = "LAL")
+            @PathVariable String team){
+        return ResponseEntity.ok(playerRankService.rankTeam(team, stat));
+    }
+}
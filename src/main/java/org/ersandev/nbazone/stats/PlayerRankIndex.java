@@ -0,0 +1,237 @@
+package org.ersandev.nbazone.stats;
+
+import org.ersandev.nbazone.config.CacheConfig;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.player.PlayerChangedEvent;
+import org.ersandev.nbazone.player.PlayerReadModel;
+import org.ersandev.nbazone.player.PlayerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+//Her istatistik için oyuncu değerlerinin sıralı bir double[] kopyası. Bir oyuncunun sırası ve yüzdelik dilimi
+//bu dizide iki binary search ile O(log n) bulunur. Ekleme/güncelleme/silme yalnızca ilgili değerleri diziye
+//yerleştirip çıkarır, tablo yeniden okunmaz. Bellek oyuncu başına istatistik sayısı kadar double'dır (~200 byte),
+//entity ya da DTO tutulmaz. Null değerler o istatistiğin sıralamasına girmez.
+@Component
+public class PlayerRankIndex extends PlayerReadModel<PlayerRankIndex.Ranks> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerRankIndex.class);
+
+    public PlayerRankIndex(PlayerRepository playerRepository, PlatformTransactionManager transactionManager) {
+        super(playerRepository, transactionManager, new Ranks(0));
+    }
+
+    //kurulumda değerler sırasız eklenip her kolon bir kez sıralanır, tek tek insert edilmez
+    @Override
+    protected Ranks load(Stream<PlayerResponseDto> players) {
+        List<PlayerStatValues> loaded = players.map(PlayerStatValues::of).toList();
+        Ranks ranks = new Ranks(loaded.size());
+        for (PlayerStatValues player : loaded) {
+            ranks.index(player);
+            for (PlayerStat stat : PlayerStat.values()) {
+                ranks.columns.get(stat).append(player.value(stat));
+            }
+        }
+        ranks.columns.values().forEach(SortedColumn::sort);
+        logger.info("Player rank index loaded {} players", loaded.size());
+        return ranks;
+    }
+
+    @Override
+    protected void apply(Ranks ranks, PlayerChangedEvent event) {
+        PlayerStatValues next = PlayerStatValues.after(ranks.playersById.get(event.playerId()), event);
+        ranks.remove(event.playerId());
+        if (next != null) {
+            ranks.add(next);
+        }
+    }
+
+    public Optional<StatRank> rank(long playerId, PlayerStat stat) {
+        return read(ranks -> {
+            PlayerStatValues player = ranks.playersById.get(playerId);
+            return player == null ? Optional.empty() : Optional.of(rankOf(ranks, player, stat));
+        });
+    }
+
+    //takımdaki her oyuncu için ayrı bir O(log n) sorgu; sonuç lig sırasına göre döner
+    public List<StatRank> rankTeam(String team, PlayerStat stat) {
+        return read(ranks -> {
+            Set<Long> ids = ranks.idsByTeam.getOrDefault(CacheConfig.teamKey(team), Set.of());
+            List<StatRank> result = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                result.add(rankOf(ranks, ranks.playersById.get(id), stat));
+            }
+            result.sort(StatRank.LEAGUE_ORDER);
+            return result;
+        });
+    }
+
+    private static StatRank rankOf(Ranks ranks, PlayerStatValues player, PlayerStat stat) {
+        SortedColumn column = ranks.columns.get(stat);
+        double value = player.value(stat);
+        if (Double.isNaN(value)) {
+            return new StatRank(player.id(), player.playerName(), player.team(), stat, null, null, null, column.size());
+        }
+        int below = column.lowerBound(value);
+        int notAbove = column.upperBound(value);
+        int total = column.size();
+        //sıra büyükten küçüğe verilir, eşit değerler aynı sırayı paylaşır (1, 2, 2, 4 ...)
+        int rank = total - notAbove + 1;
+        //yüzdelik: daha düşük değerlilerin tamamı + eşitlerin yarısı
+        double percentile = 100.0 * (below + (notAbove - below) / 2.0) / total;
+        return new StatRank(player.id(), player.playerName(), player.team(), stat, value, rank,
+                Math.round(percentile * 10) / 10.0, total);
+    }
+
+    public record StatRank(long playerId, String playerName, String team, PlayerStat stat,
+                           Double value, Integer rank, Double percentile, int total) {
+
+        //sırası olmayanlar (null değer) sonda
+        static final Comparator<StatRank> LEAGUE_ORDER = Comparator
+                .comparing(StatRank::rank, Comparator.nullsLast(Integer::compare))
+                .thenComparingLong(StatRank::playerId);
+    }
+
+    //sıralama indeksinin modeli; sadece PlayerReadModel kilidi altında okunur ve değiştirilir
+    static final class Ranks {
+
+        private final Map<Long, PlayerStatValues> playersById = new HashMap<>();
+        private final Map<String, Set<Long>> idsByTeam = new HashMap<>();
+        private final Map<PlayerStat, SortedColumn> columns = new EnumMap<>(PlayerStat.class);
+
+        Ranks(int capacity) {
+            for (PlayerStat stat : PlayerStat.values()) {
+                columns.put(stat, new SortedColumn(capacity));
+            }
+        }
+
+        private void index(PlayerStatValues player) {
+            playersById.put(player.id(), player);
+            idsByTeam.computeIfAbsent(CacheConfig.teamKey(player.team()), team -> new LinkedHashSet<>()).add(player.id());
+        }
+
+        private void add(PlayerStatValues player) {
+            index(player);
+            for (PlayerStat stat : PlayerStat.values()) {
+                columns.get(stat).insert(player.value(stat));
+            }
+        }
+
+        private void remove(Long playerId) {
+            PlayerStatValues existing = playersById.remove(playerId);
+            if (existing == null) {
+                return;
+            }
+            String teamKey = CacheConfig.teamKey(existing.team());
+            Set<Long> teamIds = idsByTeam.get(teamKey);
+            if (teamIds != null) {
+                teamIds.remove(playerId);
+                if (teamIds.isEmpty()) {
+                    idsByTeam.remove(teamKey);
+                }
+            }
+            for (PlayerStat stat : PlayerStat.values()) {
+                columns.get(stat).remove(existing.value(stat));
+            }
+        }
+    }
+
+    //artan sırada tutulan değerler; NaN (null) değerler hiç eklenmez
+    private static final class SortedColumn {
+
+        private double[] values;
+        private int size;
+
+        SortedColumn(int capacity) {
+            values = new double[Math.max(capacity, 16)];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void append(double value) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            ensureCapacity();
+            values[size++] = value;
+        }
+
+        void sort() {
+            Arrays.sort(values, 0, size);
+        }
+
+        void insert(double value) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            ensureCapacity();
+            int index = upperBound(value);
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+        }
+
+        void remove(double value) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            int index = lowerBound(value);
+            if (index < size && values[index] == value) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+        }
+
+        //value'dan küçük eleman sayısı
+        int lowerBound(double value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        //value'dan küçük veya eşit eleman sayısı
+        int upperBound(double value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void ensureCapacity() {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+        }
+    }
+}
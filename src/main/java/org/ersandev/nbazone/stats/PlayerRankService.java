@@ -0,0 +1,43 @@
+package org.ersandev.nbazone.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.dto.PlayerRankDto;
+import org.ersandev.nbazone.exceptions.PlayerNotFoundException;
+import org.ersandev.nbazone.exceptions.TeamNotFoundException;
+import org.ersandev.nbazone.exceptions.UnknownStatException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class PlayerRankService {
+
+    private final PlayerRankIndex rankIndex;
+
+    public PlayerRankDto rankPlayer(Long playerId, String stat) {
+        PlayerStat playerStat = parseStat(stat);
+        return rankIndex.rank(playerId, playerStat)
+                .map(PlayerRankService::toDto)
+                .orElseThrow(() -> new PlayerNotFoundException("Player not found with id: " + playerId));
+    }
+
+    public List<PlayerRankDto> rankTeam(String team, String stat) {
+        PlayerStat playerStat = parseStat(stat);
+        List<PlayerRankIndex.StatRank> ranks = rankIndex.rankTeam(team, playerStat);
+        if (ranks.isEmpty()) {
+            throw new TeamNotFoundException("Team not found: " + team);
+        }
+        return ranks.stream().map(PlayerRankService::toDto).toList();
+    }
+
+    private static PlayerStat parseStat(String stat) {
+        return PlayerStat.fromFieldName(stat)
+                .orElseThrow(() -> new UnknownStatException("Unknown stat: " + stat));
+    }
+
+    private static PlayerRankDto toDto(PlayerRankIndex.StatRank rank) {
+        return new PlayerRankDto(rank.playerId(), rank.playerName(), rank.team(), rank.stat().getFieldName(),
+                rank.value(), rank.rank(), rank.percentile(), rank.total());
+    }
+}
@@ -0,0 +1,68 @@
+package org.ersandev.nbazone.stats;
+
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.player.Player;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+//Player entity'sindeki sayısal alanlar. Değeri null olan istatistik NaN olarak tutulur.
+public enum PlayerStat {
+    AGE("age", player -> (double) player.getAge(), player -> (double) player.getAge(),
+            player -> player.getAge() == null ? null : player.getAge().doubleValue()),
+    MIN("min", Player::getMin, PlayerResponseDto::getMin, PlayerRequestDto::getMin),
+    PTS("pts", Player::getPts, PlayerResponseDto::getPts, PlayerRequestDto::getPts),
+    FG_PERCENT("fgPercent", Player::getFgPercent, PlayerResponseDto::getFgPercent, PlayerRequestDto::getFgPercent),
+    THREE_P_PERCENT("threePPercent", Player::getThreePPercent, PlayerResponseDto::getThreePPercent,
+            PlayerRequestDto::getThreePPercent),
+    FT_PERCENT("ftPercent", Player::getFtPercent, PlayerResponseDto::getFtPercent, PlayerRequestDto::getFtPercent),
+    DREB("dreb", Player::getDreb, PlayerResponseDto::getDreb, PlayerRequestDto::getDreb),
+    REB("reb", Player::getReb, PlayerResponseDto::getReb, PlayerRequestDto::getReb),
+    AST("ast", Player::getAst, PlayerResponseDto::getAst, PlayerRequestDto::getAst),
+    STL("stl", Player::getStl, PlayerResponseDto::getStl, PlayerRequestDto::getStl),
+    BLK("blk", Player::getBlk, PlayerResponseDto::getBlk, PlayerRequestDto::getBlk);
+
+    private static final PlayerStat[] VALUES = values();
+
+    private final String fieldName;
+    private final Function<Player, Double> accessor;
+    private final Function<PlayerResponseDto, Double> dtoAccessor;
+    private final Function<PlayerRequestDto, Double> requestAccessor;
+
+    PlayerStat(String fieldName, Function<Player, Double> accessor, Function<PlayerResponseDto, Double> dtoAccessor,
+               Function<PlayerRequestDto, Double> requestAccessor) {
+        this.fieldName = fieldName;
+        this.accessor = accessor;
+        this.dtoAccessor = dtoAccessor;
+        this.requestAccessor = requestAccessor;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public double valueOf(Player player) {
+        Double value = accessor.apply(player);
+        return value == null ? Double.NaN : value;
+    }
+
+    public double valueOf(PlayerResponseDto player) {
+        Double value = dtoAccessor.apply(player);
+        return value == null ? Double.NaN : value;
+    }
+
+    //güncelleme isteğindeki yeni değer; null ise alan değişmiyor
+    public Double changeOf(PlayerRequestDto changes) {
+        return requestAccessor.apply(changes);
+    }
+
+    public static Optional<PlayerStat> fromFieldName(String fieldName) {
+        for (PlayerStat stat : VALUES) {
+            if (stat.fieldName.equalsIgnoreCase(fieldName)) {
+                return Optional.of(stat);
+            }
+        }
+        return Optional.empty();
+    }
+}
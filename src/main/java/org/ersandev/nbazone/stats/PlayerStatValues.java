@@ -0,0 +1,61 @@
+package org.ersandev.nbazone.stats;
+
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.player.Player;
+import org.ersandev.nbazone.player.PlayerChangedEvent;
+
+import java.util.function.ToDoubleFunction;
+
+//Bellek içi istatistik indekslerinin oyuncu başına tuttuğu değerler, PlayerStat ordinal'ine göre; null değerler NaN
+record PlayerStatValues(long id, String playerName, String team, double[] values) {
+
+    static PlayerStatValues of(PlayerResponseDto player) {
+        return new PlayerStatValues(player.getId(), player.getPlayerName(), player.getTeam(),
+                values(stat -> stat.valueOf(player)));
+    }
+
+    static PlayerStatValues of(Player player) {
+        return new PlayerStatValues(player.getId(), player.getPlayerName(), player.getTeam(),
+                values(stat -> stat.valueOf(player)));
+    }
+
+    //event'ten sonraki hal: eklemede yeni oyuncu, güncellemede mevcut hale uygulanan değişiklikler,
+    //silmede ya da modelde olmayan bir oyuncunun güncellemesinde null
+    static PlayerStatValues after(PlayerStatValues current, PlayerChangedEvent event) {
+        if (event.after() != null) {
+            return of(event.after());
+        }
+        if (event.changes() == null || current == null) {
+            return null;
+        }
+        return current.with(event.changes());
+    }
+
+    //istekte null olan alanlar olduğu gibi kalır
+    PlayerStatValues with(PlayerRequestDto changes) {
+        double[] patched = values.clone();
+        for (PlayerStat stat : PlayerStat.values()) {
+            Double value = stat.changeOf(changes);
+            if (value != null) {
+                patched[stat.ordinal()] = value;
+            }
+        }
+        return new PlayerStatValues(id,
+                changes.getPlayerName() != null ? changes.getPlayerName() : playerName,
+                changes.getTeam() != null ? changes.getTeam() : team,
+                patched);
+    }
+
+    double value(PlayerStat stat) {
+        return values[stat.ordinal()];
+    }
+
+    private static double[] values(ToDoubleFunction<PlayerStat> valueOf) {
+        double[] values = new double[PlayerStat.values().length];
+        for (PlayerStat stat : PlayerStat.values()) {
+            values[stat.ordinal()] = valueOf.applyAsDouble(stat);
+        }
+        return values;
+    }
+}
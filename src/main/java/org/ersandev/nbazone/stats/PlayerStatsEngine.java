@@ -0,0 +1,337 @@
+package org.ersandev.nbazone.stats;
+
+import org.ersandev.nbazone.mapper.PlayerMapper;
+import org.ersandev.nbazone.player.Player;
+import org.ersandev.nbazone.player.PlayerCacheEvictor;
+import org.ersandev.nbazone.player.PlayerChangedEvent;
+import org.ersandev.nbazone.player.PlayerRepository;
+import org.ersandev.nbazone.player.PlayersBulkChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntToDoubleFunction;
+
+//player_stats tablosunun bellekteki kolon bazlı kopyası. Her istatistik, yoğun (dense) oyuncu ordinal'ine göre
+//indekslenmiş bir double[] kolonunda tutulur. Top-N ve sıralı sayfa sorguları veritabanına gitmeden buradan cevaplanır.
+//Okumalar değişmez (immutable) bir snapshot üzerinden kilitsiz yapılır. Tek oyuncu yazmalarında yeni snapshot sadece
+//değişen kolonlar kopyalanarak kurulur ve sıralı ordinal dizilerinde oyuncu çıkarılıp yeni yerine eklenir (O(n) kopya,
+//sıralama yok); tam kurulum sadece açılışta ve toplu yazmalardan sonra yapılır.
+@Component
+@ConditionalOnProperty(name = "spring.app.statsEngineEnabled", havingValue = "true")
+public class PlayerStatsEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerStatsEngine.class);
+
+    //sayfalı sıralama endpoint'lerinin kullandığı kolonlar için sıralı ordinal dizileri önceden hazırlanır
+    private static final List<PlayerStat> PRESORTED_STATS = List.of(PlayerStat.AGE, PlayerStat.PTS);
+
+    private final PlayerRepository playerRepository;
+    private final PlayerMapper playerMapper;
+
+    //oyuncunun snapshot'taki ordinal'i; sadece writeLock altında kullanılır
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+
+    //synchronized yerine ReentrantLock: reload() kilit altında veritabanını okur ve
+    //synchronized blok içindeki blocking I/O virtual thread'in carrier thread'ini pinler
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public PlayerStatsEngine(PlayerRepository playerRepository, PlayerMapper playerMapper) {
+        this.playerRepository = playerRepository;
+        this.playerMapper = playerMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        writeLock.lock();
+        try {
+            List<Player> players = new ArrayList<>();
+            for (Player player : playerRepository.findAll()) {
+                players.add(PlayerChangedEvent.copyOf(player));
+            }
+            Snapshot loaded = Snapshot.of(players);
+            ordinalsById.clear();
+            for (int ordinal = 0; ordinal < loaded.ids().length; ordinal++) {
+                ordinalsById.put(loaded.ids()[ordinal], ordinal);
+            }
+            snapshot = loaded;
+            logger.info("Player stats engine loaded {} players", players.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    //PlayerCacheEvictor'dan önce: temizlenen top 10 cache'i eski snapshot'tan yeniden dolmasın
+    @Order(PlayerCacheEvictor.READ_MODEL_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+            Long id = event.playerId();
+            Integer ordinal = ordinalsById.get(id);
+            if (event.after() != null) {
+                if (ordinal == null) {
+                    ordinalsById.put(id, current.players().length);
+                    snapshot = current.withAdded(event.after());
+                } else {
+                    snapshot = current.withReplaced(ordinal, event.after());
+                }
+            } else if (event.changes() != null) {
+                //güncelleme sadece dolu alanları taşır, eski hal snapshot'taki kopyadan alınır
+                if (ordinal != null) {
+                    Player patched = PlayerChangedEvent.copyOf(current.players()[ordinal]);
+                    playerMapper.updateEntity(event.changes(), patched);
+                    patched.setVersion(event.changes().getVersion());
+                    snapshot = current.withReplaced(ordinal, patched);
+                }
+            } else if (ordinal != null) {
+                //son oyuncu boşalan ordinal'e taşınır, diziler yoğun kalır
+                int last = current.players().length - 1;
+                ordinalsById.remove(id);
+                if (ordinal != last) {
+                    ordinalsById.put(current.ids()[last], ordinal);
+                }
+                snapshot = current.withRemoved(ordinal);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    //toplu yazmalardan sonra snapshot veritabanından yeniden kurulur
+    @Order(PlayerCacheEvictor.READ_MODEL_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayersBulkChanged(PlayersBulkChangedEvent event) {
+        if (snapshot != null) {
+            reload();
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public List<Player> topTenByFilter(String filter) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        double[] values = PlayerRepository.TOP_TEN_FILTERS.contains(filter.toLowerCase(Locale.ROOT))
+                ? current.column(PlayerStat.fromFieldName(filter).orElseThrow())
+                : current.idColumn();
+        return current.players(TopNSelector.topN(values, current.ids(), 10, ordinal -> true));
+    }
+
+    public List<Player> topN(PlayerStat stat, int n) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        return current.players(TopNSelector.topN(current.column(stat), current.ids(), n, ordinal -> true));
+    }
+
+    //Ağırlıklı skor her oyuncu için kolonlardan tek geçişte hesaplanır ve boyutu limit ile sınırlı heap'e girer,
+    //skor dizisi ya da ara liste oluşturulmaz. Eşit skorlarda id'si küçük olan önce gelir.
+    public List<ScoredPlayer> leaderboard(LeaderboardQuery query) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        PlayerStat[] stats = query.formula().stats();
+        double[] weights = query.formula().weights();
+        double[][] columns = new double[stats.length][];
+        for (int i = 0; i < stats.length; i++) {
+            columns[i] = current.column(stats[i]);
+        }
+        Player[] players = current.players();
+        IntToDoubleFunction score = ordinal -> {
+            double sum = 0;
+            for (int i = 0; i < columns.length; i++) {
+                double value = columns[i][ordinal];
+                if (!Double.isNaN(value)) {
+                    sum += weights[i] * value;
+                }
+            }
+            return sum;
+        };
+
+        int[] ordinals = TopNSelector.topN(players.length, score, current.ids(), query.limit(),
+                ordinal -> query.matches(players[ordinal].getTeam(), players[ordinal].getAge()));
+        List<ScoredPlayer> result = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            result.add(new ScoredPlayer(players[ordinal], score.applyAsDouble(ordinal)));
+        }
+        return result;
+    }
+
+    //MySQL ile aynı davranır: ASC sıralamada null'lar başta, DESC sıralamada sonda
+    public Page<Player> sortedPage(PlayerStat stat, Pageable pageable) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        Sort.Order order = pageable.getSort().getOrderFor(stat.getFieldName());
+        boolean descending = order != null && order.isDescending();
+
+        int[] ascending = current.ascendingOrder(stat);
+        int total = ascending.length;
+        long offset = pageable.getOffset();
+        int from = (int) Math.min(offset, total);
+        int to = (int) Math.min(offset + pageable.getPageSize(), total);
+
+        List<Player> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            int ordinal = descending ? ascending[total - 1 - i] : ascending[i];
+            content.add(current.players()[ordinal]);
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private record Snapshot(Player[] players, long[] ids, double[] idColumn,
+                            Map<PlayerStat, double[]> columns, Map<PlayerStat, int[]> ascendingOrders) {
+
+        static Snapshot of(List<Player> source) {
+            Player[] players = source.toArray(new Player[0]);
+            int size = players.length;
+
+            long[] ids = new long[size];
+            double[] idColumn = new double[size];
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                ids[ordinal] = players[ordinal].getId();
+                idColumn[ordinal] = ids[ordinal];
+            }
+
+            Map<PlayerStat, double[]> columns = new EnumMap<>(PlayerStat.class);
+            for (PlayerStat stat : PlayerStat.values()) {
+                double[] column = new double[size];
+                for (int ordinal = 0; ordinal < size; ordinal++) {
+                    column[ordinal] = stat.valueOf(players[ordinal]);
+                }
+                columns.put(stat, column);
+            }
+
+            Map<PlayerStat, int[]> ascendingOrders = new EnumMap<>(PlayerStat.class);
+            for (PlayerStat stat : PRESORTED_STATS) {
+                ascendingOrders.put(stat, AscendingOrdinals.sort(columns.get(stat), ids));
+            }
+            return new Snapshot(players, ids, idColumn, columns, ascendingOrders);
+        }
+
+        //aynı ordinal'de oyuncunun yeni hali; sadece değeri değişen kolonlar ve sıralar kopyalanır
+        Snapshot withReplaced(int ordinal, Player player) {
+            Player[] nextPlayers = players.clone();
+            nextPlayers[ordinal] = player;
+            Map<PlayerStat, double[]> nextColumns = new EnumMap<>(columns);
+            Map<PlayerStat, int[]> nextOrders = new EnumMap<>(ascendingOrders);
+            for (PlayerStat stat : PlayerStat.values()) {
+                double value = stat.valueOf(player);
+                double[] column = columns.get(stat);
+                if (Double.compare(column[ordinal], value) == 0) {
+                    continue;
+                }
+                double[] changed = column.clone();
+                changed[ordinal] = value;
+                nextColumns.put(stat, changed);
+                int[] order = ascendingOrders.get(stat);
+                if (order != null) {
+                    nextOrders.put(stat, AscendingOrdinals.insert(AscendingOrdinals.remove(order, ordinal),
+                            ordinal, changed, ids));
+                }
+            }
+            return new Snapshot(nextPlayers, ids, idColumn, nextColumns, nextOrders);
+        }
+
+        //yeni oyuncu sona, yeni bir ordinal'e eklenir
+        Snapshot withAdded(Player player) {
+            int ordinal = players.length;
+            Player[] nextPlayers = Arrays.copyOf(players, ordinal + 1);
+            nextPlayers[ordinal] = player;
+            long[] nextIds = Arrays.copyOf(ids, ordinal + 1);
+            nextIds[ordinal] = player.getId();
+            double[] nextIdColumn = Arrays.copyOf(idColumn, ordinal + 1);
+            nextIdColumn[ordinal] = player.getId();
+
+            Map<PlayerStat, double[]> nextColumns = new EnumMap<>(PlayerStat.class);
+            Map<PlayerStat, int[]> nextOrders = new EnumMap<>(PlayerStat.class);
+            for (PlayerStat stat : PlayerStat.values()) {
+                double[] column = Arrays.copyOf(columns.get(stat), ordinal + 1);
+                column[ordinal] = stat.valueOf(player);
+                nextColumns.put(stat, column);
+                int[] order = ascendingOrders.get(stat);
+                if (order != null) {
+                    nextOrders.put(stat, AscendingOrdinals.insert(order, ordinal, column, nextIds));
+                }
+            }
+            return new Snapshot(nextPlayers, nextIds, nextIdColumn, nextColumns, nextOrders);
+        }
+
+        //son ordinal'deki oyuncu silinenin yerine taşınır
+        Snapshot withRemoved(int ordinal) {
+            int last = players.length - 1;
+            Player[] nextPlayers = Arrays.copyOf(players, last);
+            long[] nextIds = Arrays.copyOf(ids, last);
+            double[] nextIdColumn = Arrays.copyOf(idColumn, last);
+            if (ordinal != last) {
+                nextPlayers[ordinal] = players[last];
+                nextIds[ordinal] = ids[last];
+                nextIdColumn[ordinal] = idColumn[last];
+            }
+
+            Map<PlayerStat, double[]> nextColumns = new EnumMap<>(PlayerStat.class);
+            Map<PlayerStat, int[]> nextOrders = new EnumMap<>(PlayerStat.class);
+            for (PlayerStat stat : PlayerStat.values()) {
+                double[] source = columns.get(stat);
+                double[] column = Arrays.copyOf(source, last);
+                if (ordinal != last) {
+                    column[ordinal] = source[last];
+                }
+                nextColumns.put(stat, column);
+                int[] order = ascendingOrders.get(stat);
+                if (order != null) {
+                    nextOrders.put(stat, AscendingOrdinals.removeAndRename(order, ordinal, last));
+                }
+            }
+            return new Snapshot(nextPlayers, nextIds, nextIdColumn, nextColumns, nextOrders);
+        }
+
+        double[] column(PlayerStat stat) {
+            return columns.get(stat);
+        }
+
+        int[] ascendingOrder(PlayerStat stat) {
+            int[] order = ascendingOrders.get(stat);
+            return order != null ? order : AscendingOrdinals.sort(columns.get(stat), ids);
+        }
+
+        List<Player> players(int[] ordinals) {
+            List<Player> result = new ArrayList<>(ordinals.length);
+            for (int ordinal : ordinals) {
+                result.add(players[ordinal]);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package org.ersandev.nbazone.stats;
+
+import org.ersandev.nbazone.player.Player;
+
+public record ScoredPlayer(Player player, double score) {
+}
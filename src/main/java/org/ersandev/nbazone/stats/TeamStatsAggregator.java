@@ -0,0 +1,187 @@
+package org.ersandev.nbazone.stats;
+
+import org.ersandev.nbazone.config.CacheConfig;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.dto.StatSummaryDto;
+import org.ersandev.nbazone.dto.TeamStatsDto;
+import org.ersandev.nbazone.player.PlayerChangedEvent;
+import org.ersandev.nbazone.player.PlayerReadModel;
+import org.ersandev.nbazone.player.PlayerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+//Takım bazında her istatistik için toplam, kareler toplamı, dakika ağırlıklı toplam ve değer çoklu kümesi (min/max için)
+//tutan akümülatörler. Her oyuncu yazmasında yalnızca eski değerler çıkarılır ve yenileri eklenir, takım hiç taranmaz.
+//Toplu import sonrası ve açılışta tablodan yeniden kurulur (PlayerReadModel).
+@Component
+public class TeamStatsAggregator extends PlayerReadModel<TeamStatsAggregator.Teams> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamStatsAggregator.class);
+
+    public TeamStatsAggregator(PlayerRepository playerRepository, PlatformTransactionManager transactionManager) {
+        super(playerRepository, transactionManager, new Teams());
+    }
+
+    @Override
+    protected Teams load(Stream<PlayerResponseDto> players) {
+        Teams teams = new Teams();
+        players.map(PlayerStatValues::of).forEach(teams::add);
+        logger.info("Team stats aggregator loaded {} players in {} teams", teams.playersById.size(), teams.byKey.size());
+        return teams;
+    }
+
+    @Override
+    protected void apply(Teams teams, PlayerChangedEvent event) {
+        PlayerStatValues next = PlayerStatValues.after(teams.playersById.get(event.playerId()), event);
+        teams.remove(event.playerId());
+        if (next != null) {
+            teams.add(next);
+        }
+    }
+
+    public Optional<TeamStatsDto> summary(String team) {
+        return read(teams -> Optional.ofNullable(teams.byKey.get(CacheConfig.teamKey(team))).map(TeamAccumulator::toDto));
+    }
+
+    //takım adına göre sıralı
+    public List<TeamStatsDto> summaries() {
+        return read(teams -> {
+            List<TeamStatsDto> result = new ArrayList<>(teams.byKey.size());
+            for (TeamAccumulator accumulator : teams.byKey.values()) {
+                result.add(accumulator.toDto());
+            }
+            return result;
+        });
+    }
+
+    //takım akümülatörleri; sadece PlayerReadModel kilidi altında okunur ve değiştirilir
+    static final class Teams {
+
+        //silme/güncellemede hangi değerlerin çıkarılacağını bilmek için oyuncunun son hali
+        private final Map<Long, PlayerStatValues> playersById = new HashMap<>();
+        private final Map<String, TeamAccumulator> byKey = new TreeMap<>();
+
+        private void add(PlayerStatValues player) {
+            playersById.put(player.id(), player);
+            byKey.computeIfAbsent(CacheConfig.teamKey(player.team()), key -> new TeamAccumulator()).add(player);
+        }
+
+        private void remove(Long playerId) {
+            PlayerStatValues existing = playersById.remove(playerId);
+            if (existing == null) {
+                return;
+            }
+            String key = CacheConfig.teamKey(existing.team());
+            TeamAccumulator accumulator = byKey.get(key);
+            if (accumulator != null && accumulator.remove(existing) == 0) {
+                byKey.remove(key);
+            }
+        }
+    }
+
+    private static final class TeamAccumulator {
+
+        private final Map<PlayerStat, StatAccumulator> stats = new EnumMap<>(PlayerStat.class);
+        private String team;
+        private int players;
+
+        TeamAccumulator() {
+            for (PlayerStat stat : PlayerStat.values()) {
+                stats.put(stat, new StatAccumulator());
+            }
+        }
+
+        void add(PlayerStatValues player) {
+            //takım adı ilk görülen yazımıyla gösterilir ("LAL" ve "lal" aynı takımdır)
+            if (team == null && player.team() != null) {
+                team = player.team().trim();
+            }
+            players++;
+            double minutes = player.value(PlayerStat.MIN);
+            stats.forEach((stat, accumulator) -> accumulator.add(player.value(stat), minutes));
+        }
+
+        //kalan oyuncu sayısını döner
+        int remove(PlayerStatValues player) {
+            players--;
+            double minutes = player.value(PlayerStat.MIN);
+            stats.forEach((stat, accumulator) -> accumulator.remove(player.value(stat), minutes));
+            return players;
+        }
+
+        TeamStatsDto toDto() {
+            Map<String, StatSummaryDto> summaries = new LinkedHashMap<>();
+            stats.forEach((stat, accumulator) -> summaries.put(stat.getFieldName(), accumulator.toDto()));
+            return new TeamStatsDto(team, players, summaries);
+        }
+    }
+
+    //NaN (null) değerler hiçbir toplama girmez
+    private static final class StatAccumulator {
+
+        //değer -> kaç oyuncuda bu değer var; min/max silmede tarama yapmadan firstKey/lastKey ile bulunur
+        private final TreeMap<Double, Integer> values = new TreeMap<>();
+        private int count;
+        private double sum;
+        private double sumOfSquares;
+        private double weightedSum;
+        private double weight;
+
+        void add(double value, double minutes) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            values.merge(value, 1, Integer::sum);
+            count++;
+            sum += value;
+            sumOfSquares += value * value;
+            if (!Double.isNaN(minutes)) {
+                weightedSum += value * minutes;
+                weight += minutes;
+            }
+        }
+
+        void remove(double value, double minutes) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            values.computeIfPresent(value, (key, occurrences) -> occurrences == 1 ? null : occurrences - 1);
+            count--;
+            if (count == 0) {
+                //çıkarma ile biriken yuvarlama hatası boş akümülatörde kalmasın
+                sum = sumOfSquares = weightedSum = weight = 0;
+                return;
+            }
+            sum -= value;
+            sumOfSquares -= value * value;
+            if (!Double.isNaN(minutes)) {
+                weightedSum -= value * minutes;
+                weight -= minutes;
+            }
+        }
+
+        StatSummaryDto toDto() {
+            if (count == 0) {
+                return new StatSummaryDto(0, null, null, null, null, null, null);
+            }
+            double average = sum / count;
+            //populasyon standart sapması; yuvarlama hatasıyla negatife düşen varyans 0 sayılır
+            double variance = Math.max(0, sumOfSquares / count - average * average);
+            Double weightedAverage = weight > 0 ? weightedSum / weight : null;
+            return new StatSummaryDto(count, sum, average, weightedAverage,
+                    values.firstKey(), values.lastKey(), Math.sqrt(variance));
+        }
+    }
+}
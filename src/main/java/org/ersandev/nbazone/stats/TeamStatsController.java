@@ -0,0 +1,50 @@
+package org.ersandev.nbazone.stats;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.ersandev.nbazone.dto.TeamStatsDto;
+import org.ersandev.nbazone.exceptions.TeamNotFoundException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/v1/teams")
+@RequiredArgsConstructor
+public class TeamStatsController {
+
+    private final TeamStatsAggregator teamStatsAggregator;
+
+    @GetMapping("/summary")
+    @Operation(summary = "Get summaries of all teams", description = "Totals, averages, minutes-weighted averages, min, max and standard deviation of every stat for each team.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Team summaries fetched successfully"),
+            @ApiResponse(responseCode = "500",description = "Internal server error")
+    })
+    public ResponseEntity<List<TeamStatsDto>> getTeamSummaries(){
+        return ResponseEntity.ok(teamStatsAggregator.summaries());
+    }
+
+    @GetMapping("/{team}/summary")
+    @Operation(summary = "Get team summary", description = "Totals, averages, minutes-weighted averages, min, max and standard deviation of every stat for the team.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Team summary fetched successfully"),
+            @ApiResponse(responseCode = "404", description = "Team not found"),
+            @ApiResponse(responseCode = "500",description = "Internal server error")
+    })
+    public ResponseEntity<TeamStatsDto> getTeamSummary(
+            @Parameter(description = "Team name", example = "LAL")
+            @PathVariable String team){
+        return ResponseEntity.ok(teamStatsAggregator.summary(team)
+                .orElseThrow(() -> new TeamNotFoundException("Team not found: " + team)));
+    }
+}
@@ -0,0 +1,103 @@
+package org.ersandev.nbazone.stats;
+
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+
+//Boyutu n ile sınırlı bir min-heap ile tek geçişte en yüksek skorlu n ordinal'i bulur.
+//Skor her ordinal için bir kez hesaplanır ve heap'te ordinal'in yanında tutulur, karşılaştırmalarda tekrar hesaplanmaz.
+//NaN (null) skorlar en sona düşer, eşit skorlarda id'si küçük olan önce gelir.
+final class TopNSelector {
+
+    private TopNSelector() {
+    }
+
+    static int[] topN(double[] values, long[] ids, int n, IntPredicate filter) {
+        return topN(values.length, ordinal -> values[ordinal], ids, n, filter);
+    }
+
+    static int[] topN(int size, IntToDoubleFunction score, long[] ids, int n, IntPredicate filter) {
+        int capacity = Math.max(0, Math.min(n, size));
+        int[] heap = new int[capacity];
+        double[] scores = new double[capacity];
+        int count = 0;
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (!filter.test(ordinal)) {
+                continue;
+            }
+            double value = sortKey(score.applyAsDouble(ordinal));
+            if (count < capacity) {
+                heap[count] = ordinal;
+                scores[count] = value;
+                siftUp(heap, scores, count++, ids);
+            } else if (count > 0 && isBetter(value, ids[ordinal], scores[0], ids[heap[0]])) {
+                heap[0] = ordinal;
+                scores[0] = value;
+                siftDown(heap, scores, count, ids);
+            }
+        }
+
+        //heap'in kökü her zaman en kötü eleman, sondan başa doğru boşaltınca sıralı dizi elde edilir
+        int[] result = new int[count];
+        for (int i = count - 1; i >= 0; i--) {
+            result[i] = heap[0];
+            count--;
+            heap[0] = heap[count];
+            scores[0] = scores[count];
+            siftDown(heap, scores, count, ids);
+        }
+        return result;
+    }
+
+    private static boolean isBetter(double scoreA, long idA, double scoreB, long idB) {
+        if (scoreA != scoreB) {
+            return scoreA > scoreB;
+        }
+        return idA < idB;
+    }
+
+    private static double sortKey(double value) {
+        return Double.isNaN(value) ? Double.NEGATIVE_INFINITY : value;
+    }
+
+    private static void siftUp(int[] heap, double[] scores, int index, long[] ids) {
+        int item = heap[index];
+        double itemScore = scores[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isBetter(scores[parent], ids[heap[parent]], itemScore, ids[item])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            scores[index] = scores[parent];
+            index = parent;
+        }
+        heap[index] = item;
+        scores[index] = itemScore;
+    }
+
+    private static void siftDown(int[] heap, double[] scores, int size, long[] ids) {
+        if (size == 0) {
+            return;
+        }
+        int item = heap[0];
+        double itemScore = scores[0];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && isBetter(scores[child], ids[heap[child]], scores[right], ids[heap[right]])) {
+                child = right;
+            }
+            if (!isBetter(itemScore, ids[item], scores[child], ids[heap[child]])) {
+                break;
+            }
+            heap[index] = heap[child];
+            scores[index] = scores[child];
+            index = child;
+        }
+        heap[index] = item;
+        scores[index] = itemScore;
+    }
+}
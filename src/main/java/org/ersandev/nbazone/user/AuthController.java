@@ -1,7 +1,8 @@
 package org.ersandev.nbazone.user;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 import org.ersandev.nbazone.security.jwt.JwtUtils;
 import org.ersandev.nbazone.security.request.LoginRequest;
 import org.ersandev.nbazone.security.request.SignupRequest;
@@ -22,11 +23,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/auth")
-@RequiredArgsConstructor
 public class AuthController {
 
     private final JwtUtils jwtUtils;
@@ -35,8 +36,32 @@ public class AuthController {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
 
+    //"auth.requests" timer'ları operation ve outcome tag'leriyle açılışta kaydedilir, istek başına tag oluşturulmaz
+    private final Timer signinSuccessTimer;
+    private final Timer signinFailureTimer;
+    private final Timer signupSuccessTimer;
+    private final Timer signupFailureTimer;
+
+    public AuthController(JwtUtils jwtUtils,
+                          AuthenticationManager authenticationManager,
+                          UserRepository userRepository,
+                          RoleRepository roleRepository,
+                          PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry) {
+        this.jwtUtils = jwtUtils;
+        this.authenticationManager = authenticationManager;
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.signinSuccessTimer = timer(meterRegistry, "signin", "success");
+        this.signinFailureTimer = timer(meterRegistry, "signin", "failure");
+        this.signupSuccessTimer = timer(meterRegistry, "signup", "success");
+        this.signupFailureTimer = timer(meterRegistry, "signup", "failure");
+    }
+
     @PostMapping("/signin")
     public ResponseEntity<?> authenticateUser(@RequestBody LoginRequest loginRequest) {
+        long start = System.nanoTime();
         //burada username ve password alarak Authentication türünde bir obje yaratarak içine varsa geçerli user'ı ekliyoruz
         Authentication authentication;
         try {
@@ -45,6 +70,7 @@ public class AuthController {
                             new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword())
                     );
         } catch (AuthenticationException exception) {
+            record(signinFailureTimer, start);
             Map<String, Object> map = new HashMap<>();
             map.put("message", "Bad credentials");
             map.put("status", false);
@@ -63,6 +89,7 @@ public class AuthController {
         // bir response yarat ve içine gerekli olan id,username,roles ve jwtCookie ekle
         UserJwtInfoResponse response = new UserJwtInfoResponse(userDetails.getId(),
                 userDetails.getUsername(), roles, jwtCookie.toString());
+        record(signinSuccessTimer, start);
         //geriye ResponseEntity içinde, header olarak jwtCookie'yi string yaparak set et ve response'u dön
         return ResponseEntity.ok().header(HttpHeaders.SET_COOKIE,
                         jwtCookie.toString())
@@ -79,12 +106,25 @@ public class AuthController {
 
     @PostMapping("/signup")
     public ResponseEntity<?> registerUser(@Valid @RequestBody SignupRequest signUpRequest) {
+        long start = System.nanoTime();
+        try {
+            ResponseEntity<?> response = register(signUpRequest);
+            //kullanıcı adı/e-posta zaten kayıtlıysa 400 döner, bu da başarısız kayıt sayılır
+            record(response.getStatusCode().is2xxSuccessful() ? signupSuccessTimer : signupFailureTimer, start);
+            return response;
+        } catch (RuntimeException e) {
+            record(signupFailureTimer, start);
+            throw e;
+        }
+    }
+
+    private ResponseEntity<?> register(SignupRequest signUpRequest) {
 
         if(userRepository.existsByUsername(signUpRequest.getUsername())){
-            ResponseEntity.badRequest().body(new MessageResponse("Username is already taken!"));
+            return ResponseEntity.badRequest().body(new MessageResponse("Username is already taken!"));
         }
         if (userRepository.existsByEmail(signUpRequest.getEmail())){
-            ResponseEntity.badRequest().body(new MessageResponse("Email is already in use!"));
+            return ResponseEntity.badRequest().body(new MessageResponse("Email is already in use!"));
         }
 
         //yeni kullanıcı oluştur / create new user
@@ -152,4 +192,16 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    private static void record(Timer timer, long start) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Timer.builder("auth.requests")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
 }
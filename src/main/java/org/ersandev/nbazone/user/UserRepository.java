@@ -1,15 +1,20 @@
 package org.ersandev.nbazone.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
 
+    @Query("SELECT r.roleName FROM User u JOIN u.roles r WHERE u.username = :username")
+    List<AppRole> findRoleNamesByUsername(String username);
+
     Boolean existsByUsername(String username);
 
     Boolean existsByEmail(String email);
@@ -0,0 +1,44 @@
+-- Uygulamanın ilk sürümünün ddl-auto=update ile kurduğu şema
+
+create table player_stats (
+    id bigint not null auto_increment,
+    player varchar(255) not null,
+    team varchar(255),
+    age integer not null,
+    min double,
+    pts double,
+    fg_percent double,
+    three_p_percent double,
+    ft_percent double,
+    dreb double,
+    reb double,
+    ast double,
+    stl double,
+    blk double,
+    primary key (id),
+    constraint uk_player_stats_player unique (player)
+) engine=InnoDB;
+
+create table users (
+    user_id bigint not null auto_increment,
+    username varchar(20) not null,
+    email varchar(50) not null,
+    password varchar(120) not null,
+    primary key (user_id),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+) engine=InnoDB;
+
+create table roles (
+    role_id bigint not null auto_increment,
+    role_name enum ('ROLE_ADMIN','ROLE_USER'),
+    primary key (role_id)
+) engine=InnoDB;
+
+create table user_role (
+    user_id bigint not null,
+    role_id bigint not null,
+    primary key (role_id, user_id),
+    constraint fk_user_role_role foreign key (role_id) references roles (role_id),
+    constraint fk_user_role_user foreign key (user_id) references users (user_id)
+) engine=InnoDB;
@@ -0,0 +1,18 @@
+-- İyimser kilit kolonu; mevcut satırlar 0'dan başlar
+alter table player_stats add column version bigint;
+update player_stats set version = 0 where version is null;
+
+-- Takım aramaları için küçük harfli takım, değeri veritabanı üretir
+alter table player_stats add column team_key varchar(255) generated always as (lower(team));
+
+-- Keyset sayfalama (değer, id) ve takım araması
+create index idx_player_stats_pts_id on player_stats (pts, id);
+create index idx_player_stats_age_id on player_stats (age, id);
+create index idx_player_stats_team_key on player_stats (team_key);
+
+-- Top 10 istatistik sorguları
+create index idx_player_stats_dreb on player_stats (dreb);
+create index idx_player_stats_reb on player_stats (reb);
+create index idx_player_stats_ast on player_stats (ast);
+create index idx_player_stats_stl on player_stats (stl);
+create index idx_player_stats_blk on player_stats (blk);
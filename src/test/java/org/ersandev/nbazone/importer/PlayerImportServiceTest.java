@@ -0,0 +1,96 @@
+package org.ersandev.nbazone.importer;
+
+import org.ersandev.nbazone.player.PlayersBulkChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PlayerImportServiceTest {
+
+    private static final String HEADER = "Player;Team;Age;Min;PTS;FG%;3P%;FT%;DREB;REB;AST;STL;BLK\n";
+
+    private JdbcTemplate jdbcTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private PlayerImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        importService = new PlayerImportService(jdbcTemplate, eventPublisher, 2);
+    }
+
+    @Test
+    void testImportCsv_ShouldWriteRowsInBatchesAndPublishOneEvent() throws IOException {
+        // given
+        String csv = HEADER +
+                "Luka Doncic;LAL;26;40.4;37.0;54.5;50.0;88.9;7.0;8.0;1.0;2.0;0.0\n" +
+                "Giannis Antetokounmpo;MIL;30;38.0;36.0;60.9;0.0;53.3;9.0;12.0;1.0;1.0;2.0\n" +
+                "Alperen Sengun;HOU;22;32.5;19.1;49.6;29.7;69.7;6.6;10.3;4.9;1.1;\n";
+
+        // when
+        PlayerImportReport report = importService.importCsv(stream(csv));
+
+        // then
+        assertEquals(3, report.processedRows());
+        assertEquals(3, report.upsertedRows());
+        assertEquals(0, report.failedRows());
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(eventPublisher).publishEvent(new PlayersBulkChangedEvent(3));
+    }
+
+    @Test
+    void testImportCsv_ShouldReportInvalidRowsWithLineNumbers() throws IOException {
+        // given
+        String csv = HEADER +
+                "Luka Doncic;LAL;26;40.4;37.0;54.5;50.0;88.9;7.0;8.0;1.0;2.0;0.0\n" +
+                "\n" +
+                "Broken Row;MIL;thirty;38.0;36.0;60.9;0.0;53.3;9.0;12.0;1.0;1.0;2.0\n" +
+                ";BOS;25;1;1;1;1;1;1;1;1;1;1\n";
+
+        // when
+        PlayerImportReport report = importService.importCsv(stream(csv));
+
+        // then
+        assertEquals(3, report.processedRows());
+        assertEquals(1, report.upsertedRows());
+        assertEquals(2, report.failedRows());
+        assertEquals(4, report.errors().get(0).line());
+        assertEquals("Age is not a number: 'thirty'", report.errors().get(0).message());
+        assertEquals(5, report.errors().get(1).line());
+        assertFalse(report.errorsTruncated());
+    }
+
+    @Test
+    void testImportCsv_ShouldRejectFile_WhenHeaderDoesNotMatch() throws IOException {
+        // given
+        String csv = "Name,Team,Age\nLuka Doncic,LAL,26\n";
+
+        // when
+        PlayerImportReport report = importService.importCsv(stream(csv));
+
+        // then
+        assertEquals(0, report.processedRows());
+        assertEquals(1, report.failedRows());
+        assertEquals(1, report.errors().get(0).line());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,77 @@
+package org.ersandev.nbazone.mapper;
+
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.player.Player;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.Conditions;
+import org.modelmapper.ModelMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Üretilen mapper'ın eski ModelMapper davranışıyla aynı sonucu verdiğini kontrol eder
+class PlayerMapperTest {
+
+    private final PlayerMapper playerMapper = new PlayerMapperImpl();
+
+    @Test
+    void testToResponseDto_ShouldMatchModelMapper() {
+        // given
+        Player player = new Player(7L, "Alperen Sengun", "HOU", 22, 32.5, 19.1, 49.6, 29.7, 69.7,
+                6.6, 10.3, 4.9, 1.1, 0.8, 0L, "hou");
+
+        // when
+        PlayerResponseDto generated = playerMapper.toResponseDto(player);
+        PlayerResponseDto reflective = new ModelMapper().map(player, PlayerResponseDto.class);
+
+        // then
+        assertEquals(reflective, generated);
+    }
+
+    @Test
+    void testToEntity_ShouldMatchModelMapper() {
+        // given
+        PlayerRequestDto requestDto = new PlayerRequestDto();
+        requestDto.setPlayerName("Luka Doncic");
+        requestDto.setTeam("LAL");
+        requestDto.setAge(26);
+        requestDto.setPts(37.0);
+        requestDto.setThreePPercent(50.0);
+
+        // when
+        Player generated = playerMapper.toEntity(requestDto);
+        Player reflective = new ModelMapper().map(requestDto, Player.class);
+
+        // then
+        assertEquals(new ModelMapper().map(reflective, PlayerResponseDto.class),
+                new ModelMapper().map(generated, PlayerResponseDto.class));
+        assertNull(generated.getId());
+    }
+
+    @Test
+    void testUpdateEntity_ShouldSkipNullFieldsLikeModelMapper() {
+        // given
+        PlayerRequestDto requestDto = new PlayerRequestDto();
+        requestDto.setTeam("DAL");
+        requestDto.setAge(27);
+        requestDto.setReb(9.5);
+
+        Player generated = new Player(1L, "Kyrie Irving", "BKN", 32, 36.0, 24.7, 49.7, 41.1, 90.5,
+                4.2, 5.0, 5.2, 1.3, 0.5, 0L, "bkn");
+        Player reflective = new Player(1L, "Kyrie Irving", "BKN", 32, 36.0, 24.7, 49.7, 41.1, 90.5,
+                4.2, 5.0, 5.2, 1.3, 0.5, 0L, "bkn");
+
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setPropertyCondition(Conditions.isNotNull());
+
+        // when
+        playerMapper.updateEntity(requestDto, generated);
+        modelMapper.map(requestDto, reflective);
+
+        // then
+        assertEquals(playerMapper.toResponseDto(reflective), playerMapper.toResponseDto(generated));
+        assertEquals("Kyrie Irving", generated.getPlayerName());
+        assertEquals(24.7, generated.getPts());
+        assertEquals("DAL", generated.getTeam());
+    }
+}
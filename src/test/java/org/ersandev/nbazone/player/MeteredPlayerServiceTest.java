@@ -0,0 +1,55 @@
+package org.ersandev.nbazone.player;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ersandev.nbazone.exceptions.TeamNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MeteredPlayerServiceTest {
+
+    private PlayerServiceImpl delegate;
+    private MeterRegistry meterRegistry;
+    private MeteredPlayerService meteredPlayerService;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PlayerServiceImpl.class);
+        meterRegistry = new SimpleMeterRegistry();
+        meteredPlayerService = new MeteredPlayerService(delegate, meterRegistry);
+    }
+
+    @Test
+    void testGetPlayers_ShouldDelegateAndRecordUnderMethodTag() {
+        // given
+        when(delegate.getPlayers()).thenReturn(List.of());
+
+        // when
+        meteredPlayerService.getPlayers();
+        meteredPlayerService.getPlayers();
+
+        // then
+        verify(delegate, times(2)).getPlayers();
+        assertEquals(2, methodCount("getPlayers"));
+        assertEquals(0, methodCount("getPlayersFromTeam"));
+    }
+
+    @Test
+    void testGetPlayersFromTeam_ShouldRecord_WhenDelegateThrows() {
+        // given
+        when(delegate.getPlayersFromTeam("XYZ")).thenThrow(new TeamNotFoundException("Team XYZ not found"));
+
+        // when + then
+        assertThrows(TeamNotFoundException.class, () -> meteredPlayerService.getPlayersFromTeam("XYZ"));
+        assertEquals(1, methodCount("getPlayersFromTeam"));
+    }
+
+    private long methodCount(String method) {
+        return meterRegistry.get("player.service").tag("method", method).timer().count();
+    }
+}
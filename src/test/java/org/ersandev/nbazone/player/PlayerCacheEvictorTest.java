@@ -0,0 +1,123 @@
+package org.ersandev.nbazone.player;
+
+import org.ersandev.nbazone.config.CacheConfig;
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PlayerCacheEvictorTest {
+
+    private CacheManager cacheManager;
+    private PlayerDataVersion dataVersion;
+    private PlayerResponseCache responseCache;
+    private PlayerCacheEvictor cacheEvictor;
+
+    // increment() çağrıldığı anda cache'te kalmış anahtarlar
+    private final List<Object> cachedAtIncrement = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.PLAYERS_CACHE, CacheConfig.PLAYERS_BY_TEAM_CACHE,
+                CacheConfig.PLAYERS_BY_AGE_CACHE, CacheConfig.TOP_TEN_PLAYERS_CACHE);
+        dataVersion = spy(new PlayerDataVersion());
+        doAnswer(invocation -> {
+            recordIfCached(CacheConfig.PLAYERS_CACHE, CacheConfig.ALL_PLAYERS_KEY);
+            recordIfCached(CacheConfig.PLAYERS_BY_TEAM_CACHE, "lal");
+            recordIfCached(CacheConfig.PLAYERS_BY_AGE_CACHE, 26);
+            recordIfCached(CacheConfig.TOP_TEN_PLAYERS_CACHE, "reb");
+            return invocation.callRealMethod();
+        }).when(dataVersion).increment();
+        responseCache = mock(PlayerResponseCache.class);
+        cacheEvictor = new PlayerCacheEvictor(cacheManager, responseCache, dataVersion);
+    }
+
+    @Test
+    void testOnPlayerChanged_ShouldBumpVersion_OnlyAfterCachesAreEvicted() {
+        // given
+        fillCaches();
+        long before = dataVersion.current();
+
+        // when
+        cacheEvictor.onPlayerChanged(PlayerChangedEvent.deleted(1L));
+        fillCaches();
+        cacheEvictor.onPlayersBulkChanged(new PlayersBulkChangedEvent(1));
+
+        // then
+        assertEquals(List.of(), cachedAtIncrement);
+        assertEquals(before + 2, dataVersion.current());
+        InOrder inOrder = inOrder(responseCache, dataVersion);
+        for (int i = 0; i < 2; i++) {
+            inOrder.verify(responseCache).invalidateAll();
+            inOrder.verify(dataVersion).increment();
+        }
+    }
+
+    @Test
+    void testOnPlayerChanged_ShouldClearTeamAndAgeCaches_WhenUpdateDoesNotCarryTheOldState() {
+        // given: oyuncu BOS'tan LAL'e geçer; eski takım event'te yoktur
+        cacheManager.getCache(CacheConfig.PLAYERS_BY_TEAM_CACHE).put("bos", List.of());
+        cacheManager.getCache(CacheConfig.PLAYERS_BY_AGE_CACHE).put(31, List.of());
+        PlayerRequestDto changes = new PlayerRequestDto();
+        changes.setTeam("LAL");
+
+        // when
+        cacheEvictor.onPlayerChanged(PlayerChangedEvent.updated(4L, changes, 2L));
+
+        // then
+        assertNull(cacheManager.getCache(CacheConfig.PLAYERS_BY_TEAM_CACHE).get("bos"));
+        assertNull(cacheManager.getCache(CacheConfig.PLAYERS_BY_AGE_CACHE).get(31));
+    }
+
+    @Test
+    void testOnPlayerChanged_ShouldEvictTheKeyCacheableUses_WhenDefaultLocaleIsTurkish() throws Exception {
+        // given
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            String keyExpression = PlayerServiceImpl.class.getMethod("getPlayersFromTeam", String.class)
+                    .getAnnotation(Cacheable.class).key();
+            StandardEvaluationContext context = new StandardEvaluationContext();
+            context.setVariable("teamName", " MIA ");
+            Object cacheableKey = new SpelExpressionParser().parseExpression(keyExpression).getValue(context);
+            cacheManager.getCache(CacheConfig.PLAYERS_BY_TEAM_CACHE).put(cacheableKey, List.of());
+            Player butler = new Player();
+            butler.setTeam("MIA");
+            butler.setAge(35);
+
+            // when
+            cacheEvictor.onPlayerChanged(PlayerChangedEvent.added(butler));
+
+            // then
+            assertEquals("mia", cacheableKey);
+            assertNull(cacheManager.getCache(CacheConfig.PLAYERS_BY_TEAM_CACHE).get(cacheableKey));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    private void fillCaches() {
+        cacheManager.getCache(CacheConfig.PLAYERS_CACHE).put(CacheConfig.ALL_PLAYERS_KEY, List.of());
+        cacheManager.getCache(CacheConfig.PLAYERS_BY_TEAM_CACHE).put("lal", List.of());
+        cacheManager.getCache(CacheConfig.PLAYERS_BY_AGE_CACHE).put(26, List.of());
+        cacheManager.getCache(CacheConfig.TOP_TEN_PLAYERS_CACHE).put("reb", List.of());
+    }
+
+    private void recordIfCached(String cacheName, Object key) {
+        if (cacheManager.getCache(cacheName).get(key) != null) {
+            cachedAtIncrement.add(cacheName + ":" + key);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.ersandev.nbazone.player;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class PlayerControllerTest {
+
+    private PlayerService playerService;
+    private PlayerDataVersion playerDataVersion;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        playerService = mock(PlayerService.class);
+        playerDataVersion = new PlayerDataVersion();
+        PlayerResponseCache responseCache = new PlayerResponseCache(true, 1024 * 1024, 60000, new ObjectMapper(),
+                playerDataVersion, new SimpleMeterRegistry());
+        PlayerController controller = new PlayerController(playerService, mock(PlayerExportService.class),
+                playerDataVersion, responseCache);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void testGetPlayers_ShouldReturn304WithoutCallingService_WhenETagMatches() throws Exception {
+        // given
+        String etag = playerDataVersion.etag();
+
+        // when & then
+        mockMvc.perform(get("/api/v1/getAllPlayers").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+        verifyNoInteractions(playerService);
+    }
+
+    @Test
+    void testTopTen_ShouldReturnNewETag_WhenPlayerDataChanged() throws Exception {
+        // given
+        String oldEtag = playerDataVersion.etag();
+        when(playerService.topTenPlayersForFilter("reb")).thenReturn(List.of(new PlayerResponseDto()));
+        playerDataVersion.increment();
+
+        // when
+        String newEtag = mockMvc.perform(get("/api/v1/top10/reb").header("If-None-Match", oldEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // then
+        assertNotEquals(oldEtag, newEtag);
+        assertEquals(playerDataVersion.etag(), newEtag);
+        verify(playerService).topTenPlayersForFilter("reb");
+    }
+
+    @Test
+    void testGetPlayersByTeam_ShouldServeCachedGzipBytes_WhenClientAcceptsGzip() throws Exception {
+        // given
+        PlayerResponseDto player = new PlayerResponseDto();
+        player.setPlayerName("Alperen Sengun");
+        when(playerService.getPlayersFromTeam(anyString())).thenReturn(List.of(player));
+
+        // when
+        MockHttpServletResponse identity = mockMvc.perform(get("/api/v1/team/HOU"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        MockHttpServletResponse gzip = mockMvc.perform(get("/api/v1/team/hou").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andReturn().getResponse();
+
+        // then
+        byte[] unzipped;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+            unzipped = in.readAllBytes();
+        }
+        assertArrayEquals(identity.getContentAsByteArray(), unzipped);
+        assertNotEquals(identity.getHeader("ETag"), gzip.getHeader("ETag"));
+        verify(playerService, times(1)).getPlayersFromTeam(anyString());
+    }
+
+    @Test
+    void testUpdatePlayer_ShouldUseIfMatchVersionAndReturnNewVersionAsETag() throws Exception {
+        // given
+        when(playerService.updatePlayer(eq(7L), any())).thenReturn(OptionalLong.of(4L));
+
+        // when
+        mockMvc.perform(put("/api/v1/update/7").header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"pts\": 30.1, \"playerName\": \"Luka Doncic\", \"team\": \"LAL\"}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"4\""));
+
+        // then
+        ArgumentCaptor<PlayerRequestDto> captor = ArgumentCaptor.forClass(PlayerRequestDto.class);
+        verify(playerService).updatePlayer(eq(7L), captor.capture());
+        assertEquals(3L, captor.getValue().getVersion());
+        assertNull(captor.getValue().getAge());
+    }
+
+    @Test
+    void testCreatePlayer_ShouldRequireAge_WhileUpdateDoesNot() throws Exception {
+        // given
+        String withoutAge = "{\"playerName\": \"Luka Doncic\", \"team\": \"LAL\"}";
+        when(playerService.updatePlayer(eq(7L), any())).thenReturn(OptionalLong.empty());
+
+        // when & then
+        mockMvc.perform(post("/api/v1").contentType(MediaType.APPLICATION_JSON).content(withoutAge))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/v1/update/7").contentType(MediaType.APPLICATION_JSON).content(withoutAge))
+                .andExpect(status().isNoContent())
+                .andExpect(header().doesNotExist("ETag"));
+        verify(playerService, never()).addPlayer(any());
+    }
+}
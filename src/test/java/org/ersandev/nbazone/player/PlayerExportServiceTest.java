@@ -0,0 +1,90 @@
+package org.ersandev.nbazone.player;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// /players/export endpoint'i gerçek PlayerExportService ile, repository stream'i mock'lanarak test edilir
+class PlayerExportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PlayerRepository playerRepository;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        playerRepository = mock(PlayerRepository.class);
+        PlayerController controller = new PlayerController(mock(PlayerService.class),
+                new PlayerExportService(playerRepository, objectMapper), mock(PlayerDataVersion.class),
+                mock(PlayerResponseCache.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void testExportPlayers_ShouldStreamEveryRow_InBothFormats() throws Exception {
+        // given
+        when(playerRepository.streamAllAsDto())
+                .thenAnswer(invocation -> Stream.of(player(1L, "Luka Doncic"), player(2L, "LeBron James")));
+
+        // when
+        MockHttpServletResponse ndjson = export("ndjson");
+        MockHttpServletResponse json = export("json");
+
+        // then
+        assertTrue(ndjson.getContentType().startsWith(MediaType.APPLICATION_NDJSON_VALUE));
+        List<String> lines = Arrays.asList(ndjson.getContentAsString().split("\n"));
+        assertEquals(2, lines.size());
+        assertEquals("Luka Doncic", objectMapper.readValue(lines.get(0), PlayerResponseDto.class).getPlayerName());
+        assertEquals("LeBron James", objectMapper.readValue(lines.get(1), PlayerResponseDto.class).getPlayerName());
+        assertTrue(ndjson.getContentAsString().endsWith("\n"));
+
+        assertTrue(json.getContentType().startsWith(MediaType.APPLICATION_JSON_VALUE));
+        List<PlayerResponseDto> players = objectMapper.readValue(json.getContentAsString(), new TypeReference<>() { });
+        assertEquals(List.of(1L, 2L), players.stream().map(PlayerResponseDto::getId).toList());
+    }
+
+    @Test
+    void testExportPlayers_ShouldWriteEmptyOutput_WhenTableIsEmpty() throws Exception {
+        // given
+        when(playerRepository.streamAllAsDto()).thenAnswer(invocation -> Stream.empty());
+
+        // when
+        MockHttpServletResponse ndjson = export("ndjson");
+        MockHttpServletResponse json = export("json");
+
+        // then
+        assertEquals("", ndjson.getContentAsString());
+        assertEquals("[]", json.getContentAsString());
+        verify(playerRepository, times(2)).streamAllAsDto();
+    }
+
+    private MockHttpServletResponse export(String format) throws Exception {
+        return mockMvc.perform(get("/api/v1/players/export").param("format", format))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    private static PlayerResponseDto player(Long id, String name) {
+        PlayerResponseDto player = new PlayerResponseDto();
+        player.setId(id);
+        player.setPlayerName(name);
+        player.setTeam("LAL");
+        return player;
+    }
+}
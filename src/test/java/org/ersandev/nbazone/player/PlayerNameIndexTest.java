@@ -0,0 +1,101 @@
+package org.ersandev.nbazone.player;
+
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PlayerNameIndexTest {
+
+    private PlayerRepository playerRepository;
+    private PlayerNameIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        playerRepository = mock(PlayerRepository.class);
+        nameIndex = new PlayerNameIndex(playerRepository, mock(PlatformTransactionManager.class), 1000);
+        when(playerRepository.streamAllAsDto()).thenReturn(Stream.of(
+                dto(1L, "Luka Don?i?"),
+                dto(2L, "Nikola Jokić"),
+                dto(3L, "Dennis Schr\uFFFDder"),
+                dto(4L, "LeBron James")));
+        nameIndex.reload();
+    }
+
+    @Test
+    void testSearch_ShouldMatchPrefixesIgnoringAccentsAndMangledCharacters() {
+        // when + then
+        assertEquals(List.of(1L), ids(nameIndex.search("Dončić", 10)));
+        assertEquals(List.of(1L), ids(nameIndex.search("luka donc", 10)));
+        assertEquals(List.of(2L), ids(nameIndex.search("jokic", 10)));
+        assertEquals(List.of(3L), ids(nameIndex.search("schröder", 10)));
+        assertEquals(0, nameIndex.search("leb", 10).get(0).distance());
+    }
+
+    @Test
+    void testSearch_ShouldTolerateTyposAndFollowWrites() {
+        // when
+        List<PlayerNameIndex.Match> typo = nameIndex.search("lebrom jams", 10);
+        nameIndex.onPlayerChanged(PlayerChangedEvent.updated(4L, rename("Bronny James"), 1L));
+
+        // then
+        assertEquals(List.of(4L), ids(typo));
+        assertEquals(2, typo.get(0).distance());
+        assertTrue(nameIndex.search("lebron", 10).isEmpty());
+        assertEquals(List.of(4L), ids(nameIndex.search("bronny", 10)));
+        verify(playerRepository, times(1)).streamAllAsDto();
+    }
+
+    @Test
+    void testReload_ShouldKeepChangesThatArriveWhileSnapshotIsRead() {
+        // given: snapshot okunurken 4 numaralı oyuncunun adı değişir, snapshot ise eski adı içerir
+        when(playerRepository.streamAllAsDto()).thenAnswer(invocation -> {
+            nameIndex.onPlayerChanged(PlayerChangedEvent.updated(4L, rename("Bronny James"), 1L));
+            return Stream.of(dto(1L, "Luka Don?i?"), dto(4L, "LeBron James"));
+        });
+
+        // when
+        nameIndex.reload();
+
+        // then
+        assertTrue(nameIndex.search("lebron", 10).isEmpty());
+        assertEquals(List.of(4L), ids(nameIndex.search("bronny", 10)));
+    }
+
+    @Test
+    void testOnPlayerChanged_ShouldKeepTheName_WhenUpdateDoesNotTouchIt() {
+        // given
+        PlayerRequestDto changes = new PlayerRequestDto();
+        changes.setPts(30.0);
+
+        // when
+        nameIndex.onPlayerChanged(PlayerChangedEvent.updated(4L, changes, 1L));
+
+        // then
+        assertEquals(List.of(4L), ids(nameIndex.search("lebron", 10)));
+    }
+
+    private static PlayerRequestDto rename(String name) {
+        PlayerRequestDto changes = new PlayerRequestDto();
+        changes.setPlayerName(name);
+        return changes;
+    }
+
+    private static PlayerResponseDto dto(Long id, String name) {
+        PlayerResponseDto dto = new PlayerResponseDto();
+        dto.setId(id);
+        dto.setPlayerName(name);
+        return dto;
+    }
+
+    private static List<Long> ids(List<PlayerNameIndex.Match> matches) {
+        return matches.stream().map(PlayerNameIndex.Match::id).toList();
+    }
+}
@@ -0,0 +1,51 @@
+package org.ersandev.nbazone.player;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerResponseCacheTest {
+
+    private PlayerResponseCache responseCache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<List<PlayerResponseDto>> loader = () -> {
+        loads.incrementAndGet();
+        return List.of(new PlayerResponseDto());
+    };
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new PlayerResponseCache(true, 1024 * 1024, 60000, new ObjectMapper(),
+                new PlayerDataVersion(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testGet_ShouldShareEntriesAcrossCaseAndPadding_WhenDefaultLocaleIsTurkish() {
+        // given: tr locale'inde "MIN".toLowerCase() "mın", "MIL".toLowerCase() "mıl" olur
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            // when
+            PlayerResponseCache.EncodedResponse upperFilter = responseCache.get(PlayerResponseCache.TOP_TEN, "MIN", loader);
+            PlayerResponseCache.EncodedResponse lowerFilter = responseCache.get(PlayerResponseCache.TOP_TEN, "min", loader);
+            PlayerResponseCache.EncodedResponse paddedTeam = responseCache.get(PlayerResponseCache.TEAM, " MIL ", loader);
+            PlayerResponseCache.EncodedResponse team = responseCache.get(PlayerResponseCache.TEAM, "mil", loader);
+
+            // then
+            assertEquals(2, loads.get());
+            assertSame(upperFilter, lowerFilter);
+            assertSame(paddedTeam, team);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
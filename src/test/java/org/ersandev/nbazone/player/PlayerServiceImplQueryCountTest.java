@@ -0,0 +1,181 @@
+package org.ersandev.nbazone.player;
+
+import jakarta.persistence.EntityManager;
+import org.ersandev.nbazone.config.CacheConfig;
+import org.ersandev.nbazone.config.ModelMapperConfig;
+import org.ersandev.nbazone.dto.PlayerBatchRequestDto;
+import org.ersandev.nbazone.dto.PlayerBatchResponseDto;
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.mapper.EntityMapper;
+import org.ersandev.nbazone.mapper.PlayerMapperImpl;
+import org.ersandev.nbazone.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// PlayerServiceImpl'i gerçek JPA katmanı (H2) ile çalıştırıp her çağrının statement sayısını sınırlar
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({PlayerServiceImpl.class, EntityMapper.class, PlayerMapperImpl.class, ModelMapperConfig.class,
+        SqlStatementCounter.Config.class, PlayerServiceImplQueryCountTest.CacheTestConfig.class})
+class PlayerServiceImplQueryCountTest {
+
+    @Autowired
+    private PlayerServiceImpl playerService;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    private Player luka;
+
+    @BeforeEach
+    void setUp() {
+        luka = playerRepository.save(new Player(null, "Luka Doncic", "LAL", 26, 36.0, 28.2, 46.4, 36.8, 78.2,
+                7.4, 8.2, 7.7, 1.8, 0.4, null, null));
+        playerRepository.save(new Player(null, "LeBron James", "LAL", 40, 35.0, 24.4, 51.3, 37.6, 78.2,
+                6.7, 7.8, 8.2, 1.0, 0.6, null, null));
+        playerRepository.save(new Player(null, "Jayson Tatum", "BOS", 27, 36.4, 26.8, 45.2, 34.3, 81.4,
+                7.9, 8.7, 6.0, 1.1, 0.5, null, null));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testGetPlayersBatch_ShouldIssueOneQueryPerKeyType() {
+        // given
+        PlayerBatchRequestDto request = new PlayerBatchRequestDto();
+        request.setIds(List.of(luka.getId(), -1L));
+        request.setNames(List.of("lebron james", "Jayson Tatum", "Nobody"));
+        request.setTeams(List.of("lal", "BOS", "XYZ"));
+
+        // when
+        PlayerBatchResponseDto response = sqlStatementCounter.assertMaxStatements(3,
+                () -> playerService.getPlayersBatch(request));
+
+        // then
+        assertEquals(List.of(true, false), response.getIds().stream().map(item -> item.isFound()).toList());
+        assertEquals(2, response.getTeams().get(0).getPlayers().size());
+    }
+
+    @Test
+    void testGetPlayers_ShouldIssueSingleQuery() {
+        // when
+        List<PlayerResponseDto> players = sqlStatementCounter.assertMaxStatements(1, () -> playerService.getPlayers());
+
+        // then
+        assertEquals(3, players.size());
+    }
+
+    @Test
+    void testGetPlayersFromTeam_ShouldReadDtosByGeneratedTeamKey() {
+        // when
+        List<PlayerResponseDto> players = sqlStatementCounter.assertMaxStatements(1,
+                () -> playerService.getPlayersFromTeam("Lal"));
+
+        // then
+        assertEquals(List.of("Luka Doncic", "LeBron James"), players.stream().map(PlayerResponseDto::getPlayerName).toList());
+        assertEquals("lal", playerRepository.findById(luka.getId()).orElseThrow().getTeamKey());
+    }
+
+    @Test
+    void testTopTenPlayersForFilter_ShouldSortByRequestedColumn() {
+        // when
+        List<PlayerResponseDto> players = sqlStatementCounter.assertMaxStatements(1,
+                () -> playerService.topTenPlayersForFilter("AST"));
+
+        // then
+        assertEquals(List.of("LeBron James", "Luka Doncic", "Jayson Tatum"),
+                players.stream().map(PlayerResponseDto::getPlayerName).toList());
+    }
+
+    @Test
+    void testUpdatePlayer_ShouldRunSingleVersionedUpdate() {
+        // given
+        PlayerRequestDto requestDto = new PlayerRequestDto();
+        requestDto.setPts(30.1);
+        requestDto.setVersion(0L);
+
+        // when
+        OptionalLong newVersion = sqlStatementCounter.assertMaxStatements(1, () -> {
+            OptionalLong result = playerService.updatePlayer(luka.getId(), requestDto);
+            entityManager.flush();
+            return result;
+        });
+
+        // then
+        entityManager.clear();
+        Player stored = playerRepository.findById(luka.getId()).orElseThrow();
+        assertEquals(OptionalLong.of(1L), newVersion);
+        assertEquals(30.1, stored.getPts());
+        assertEquals("Luka Doncic", stored.getPlayerName());
+        assertEquals(26, stored.getAge());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    void testUpdatePlayer_ShouldKeepAge_WhenRequestOmitsIt() {
+        // given
+        PlayerRequestDto requestDto = new PlayerRequestDto();
+        requestDto.setTeam("DAL");
+
+        // when
+        OptionalLong newVersion = sqlStatementCounter.assertMaxStatements(1,
+                () -> playerService.updatePlayer(luka.getId(), requestDto));
+
+        // then
+        entityManager.clear();
+        Player stored = playerRepository.findById(luka.getId()).orElseThrow();
+        assertTrue(newVersion.isEmpty());
+        assertEquals("DAL", stored.getTeam());
+        assertEquals(26, stored.getAge());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    void testUpdatePlayer_ShouldThrowConflict_WhenVersionIsStale() {
+        // given
+        PlayerRequestDto requestDto = new PlayerRequestDto();
+        requestDto.setPts(30.1);
+        requestDto.setVersion(5L);
+
+        // when + then
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> playerService.updatePlayer(luka.getId(), requestDto));
+        entityManager.clear();
+        assertEquals(28.2, playerRepository.findById(luka.getId()).orElseThrow().getPts());
+    }
+
+    @Test
+    void testDeletePlayer_ShouldRunSingleDelete() {
+        // when
+        sqlStatementCounter.assertMaxStatements(1, () -> {
+            playerService.deletePlayer(luka.getId());
+            return null;
+        });
+
+        // then
+        assertFalse(playerRepository.existsById(luka.getId()));
+    }
+
+    static class CacheTestConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.PLAYERS_BY_TEAM_CACHE);
+        }
+    }
+}
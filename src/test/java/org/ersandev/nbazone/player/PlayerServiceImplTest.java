@@ -1,7 +1,13 @@
 package org.ersandev.nbazone.player;
 
+import org.ersandev.nbazone.config.CacheConfig;
+import org.ersandev.nbazone.dto.PlayerBatchItemDto;
+import org.ersandev.nbazone.dto.PlayerBatchRequestDto;
+import org.ersandev.nbazone.dto.PlayerBatchResponseDto;
+import org.ersandev.nbazone.dto.PlayerCursorPageDto;
 import org.ersandev.nbazone.dto.PlayerRequestDto;
 import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.exceptions.InvalidCursorException;
 import org.ersandev.nbazone.exceptions.PlayerNotFoundException;
 import org.ersandev.nbazone.exceptions.TeamNotFoundException;
 import org.ersandev.nbazone.mapper.EntityMapper;
@@ -9,12 +15,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,15 +35,17 @@ class PlayerServiceImplTest {
     private PlayerRepository playerRepository;
     private EntityMapper entityMapper;
     private PlayerServiceImpl playerService;
-    private ModelMapper modelMapper;
+    private ApplicationEventPublisher eventPublisher;
+    private CacheManager cacheManager;
 
     @BeforeEach
     void setUp() {
         playerRepository = mock(PlayerRepository.class);
         entityMapper = mock(EntityMapper.class);
-        modelMapper = new ModelMapper();
+        eventPublisher = mock(ApplicationEventPublisher.class);
         MockitoAnnotations.openMocks(this);
-        playerService = new PlayerServiceImpl(playerRepository, entityMapper, modelMapper);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.PLAYERS_BY_TEAM_CACHE);
+        playerService = new PlayerServiceImpl(playerRepository, entityMapper, eventPublisher, Optional.empty(), cacheManager);
     }
 
     @Test
@@ -75,18 +88,11 @@ class PlayerServiceImplTest {
         // Arrange
         String teamName = "Lakers";
 
-        Player player1 = new Player();
-        player1.setId(1L);
-        player1.setPlayerName("LeBron James");
-        player1.setTeam("Lakers");
-
-        List<Player> mockPlayers = List.of(player1);
-        when(playerRepository.findAllByTeamIgnoreCase(teamName)).thenReturn(Optional.of(mockPlayers));
-
         PlayerResponseDto dto1 = new PlayerResponseDto();
         dto1.setPlayerName("LeBron James");
+        dto1.setTeam("Lakers");
 
-        when(entityMapper.entityToDto(player1, PlayerResponseDto.class)).thenReturn(dto1);
+        when(playerRepository.findAllByTeamKey("lakers")).thenReturn(Optional.of(List.of(dto1)));
 
         // Act
         List<PlayerResponseDto> result = playerService.getPlayersFromTeam(teamName);
@@ -94,18 +100,19 @@ class PlayerServiceImplTest {
         // Assert
         assertEquals(1, result.size());
         assertEquals("LeBron James", result.get(0).getPlayerName());
-        verify(playerRepository, times(1)).findAllByTeamIgnoreCase(teamName);
+        verify(playerRepository, times(1)).findAllByTeamKey("lakers");
+        verifyNoInteractions(entityMapper);
     }
 
     @Test
     void testGetPlayersFromTeamThrowsExceptionWhenTeamNotFound() {
         // Arrange
         String teamName = "UnknownTeam";
-        when(playerRepository.findAllByTeamIgnoreCase(teamName)).thenReturn(Optional.empty());
+        when(playerRepository.findAllByTeamKey("unknownteam")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TeamNotFoundException.class, () -> playerService.getPlayersFromTeam(teamName));
-        verify(playerRepository, times(1)).findAllByTeamIgnoreCase(teamName);
+        verify(playerRepository, times(1)).findAllByTeamKey("unknownteam");
     }
 
     @Test
@@ -151,14 +158,10 @@ class PlayerServiceImplTest {
     void testGetPlayersByAgeReturnsDtoList() {
         // given
         int age = 30;
-        Player player1 = new Player(); player1.setAge(age);
-        Player player2 = new Player(); player2.setAge(age);
-
-        List<Player> playerList = List.of(player1, player2);
+        PlayerResponseDto player1 = new PlayerResponseDto(); player1.setAge(age);
+        PlayerResponseDto player2 = new PlayerResponseDto(); player2.setAge(age);
 
-        when(playerRepository.findAllByAge(age)).thenReturn(Optional.of(playerList));
-        when(entityMapper.entityToDto(any(Player.class), eq(PlayerResponseDto.class)))
-                .thenReturn(new PlayerResponseDto());
+        when(playerRepository.findAllByAge(age)).thenReturn(Optional.of(List.of(player1, player2)));
 
         // when
         List<PlayerResponseDto> result = playerService.getPlayersByAge(age);
@@ -166,7 +169,7 @@ class PlayerServiceImplTest {
         // then
         assertEquals(2, result.size());
         verify(playerRepository).findAllByAge(age);
-        verify(entityMapper, times(2)).entityToDto(any(Player.class), eq(PlayerResponseDto.class));
+        verifyNoInteractions(entityMapper);
     }
 
     @Test
@@ -399,81 +402,205 @@ class PlayerServiceImplTest {
     }
 
     @Test
-    void testUpdatePlayer_ShouldUpdateAndReturnDto() {
+    void testUpdatePlayer_ShouldRunOnlyTheConditionalUpdate_WhenVersionIsGiven() {
         // given
         Long playerId = 1L;
         PlayerRequestDto requestDto = new PlayerRequestDto();
         requestDto.setPlayerName("LeBron");
+        requestDto.setVersion(3L);
 
-        Player existingPlayer = new Player();
-        existingPlayer.setPlayerName("Old Name");
+        when(playerRepository.updateNonNullFields(playerId, 3L, requestDto)).thenReturn(1);
 
-        Player updatedPlayer = new Player();
-        updatedPlayer.setPlayerName("LeBron");
+        // when
+        OptionalLong result = playerService.updatePlayer(playerId, requestDto);
 
-        PlayerResponseDto responseDto = new PlayerResponseDto();
-        responseDto.setPlayerName("LeBron");
+        // then
+        assertEquals(OptionalLong.of(4L), result);
+        verify(playerRepository).updateNonNullFields(playerId, 3L, requestDto);
+        verify(playerRepository, never()).findById(any());
+        verify(playerRepository, never()).existsById(any());
+        verify(playerRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdatePlayer_ShouldUpdateUnconditionally_WhenNoVersionIsGiven() {
+        // given
+        Long playerId = 1L;
+        PlayerRequestDto requestDto = new PlayerRequestDto();
+        requestDto.setPts(30.0);
 
-        when(playerRepository.findById(playerId)).thenReturn(Optional.of(existingPlayer));
-        when(playerRepository.save(any(Player.class))).thenReturn(updatedPlayer);
-        when(entityMapper.entityToDto(updatedPlayer, PlayerResponseDto.class)).thenReturn(responseDto);
+        when(playerRepository.updateNonNullFields(playerId, null, requestDto)).thenReturn(1);
 
         // when
-        PlayerResponseDto result = playerService.updatePlayer(playerId, requestDto);
+        OptionalLong result = playerService.updatePlayer(playerId, requestDto);
 
         // then
-        assertNotNull(result);
-        assertEquals("LeBron", result.getPlayerName());
+        assertTrue(result.isEmpty());
+        verify(playerRepository, never()).findById(any());
+    }
 
-        verify(playerRepository).findById(playerId);
-        verify(playerRepository).save(any(Player.class));
-        verify(entityMapper).entityToDto(updatedPlayer, PlayerResponseDto.class);
-}
+    @Test
+    void testUpdatePlayer_ShouldThrowConflict_WhenVersionIsStale() {
+        // given
+        Long playerId = 1L;
+        PlayerRequestDto requestDto = new PlayerRequestDto();
+        requestDto.setPts(30.0);
+        requestDto.setVersion(2L);
+
+        when(playerRepository.updateNonNullFields(playerId, 2L, requestDto)).thenReturn(0);
+        when(playerRepository.existsById(playerId)).thenReturn(true);
+
+        // when + then
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> playerService.updatePlayer(playerId, requestDto));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
 
     @Test
     void testUpdatePlayer_ShouldThrowException_WhenPlayerNotFound() {
         // given
         Long playerId = 1L;
         PlayerRequestDto requestDto = new PlayerRequestDto();
-        when(playerRepository.findById(playerId)).thenReturn(Optional.empty());
+        when(playerRepository.updateNonNullFields(eq(playerId), any(), eq(requestDto))).thenReturn(0);
+        when(playerRepository.existsById(playerId)).thenReturn(false);
 
         // then
         assertThrows(PlayerNotFoundException.class, () -> playerService.updatePlayer(playerId, requestDto));
+        requestDto.setVersion(3L);
+        assertThrows(PlayerNotFoundException.class, () -> playerService.updatePlayer(playerId, requestDto));
 
-        verify(playerRepository).findById(playerId);
-        // verify(modelMapper, never()).map(any(), any());
+        verify(playerRepository, never()).findById(any());
         verify(playerRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void testDeletePlayer_ShouldDeleteSuccessfully_WhenPlayerExists() {
         // given
         Long playerId = 1L;
-        Player player = new Player();
-        player.setId(playerId);
-
-        when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+        when(playerRepository.removeById(playerId)).thenReturn(1);
 
         // when
         playerService.deletePlayer(playerId);
 
         // then
-        verify(playerRepository).findById(playerId);
-        verify(playerRepository).deleteById(playerId);
+        verify(playerRepository).removeById(playerId);
+        verify(playerRepository, never()).findById(any());
+        verify(playerRepository, never()).deleteById(any());
+        verify(eventPublisher).publishEvent(PlayerChangedEvent.deleted(playerId));
+    }
+
+    @Test
+    void testUpdatePlayer_ShouldPublishEventWithChangesAndNewVersion() {
+        // given
+        Long playerId = 1L;
+        PlayerRequestDto requestDto = new PlayerRequestDto();
+        requestDto.setTeam("Lakers");
+        requestDto.setVersion(0L);
+
+        when(playerRepository.updateNonNullFields(playerId, 0L, requestDto)).thenReturn(1);
+
+        // when
+        playerService.updatePlayer(playerId, requestDto);
+
+        // then
+        ArgumentCaptor<PlayerChangedEvent> captor = ArgumentCaptor.forClass(PlayerChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(playerId, captor.getValue().playerId());
+        assertNull(captor.getValue().after());
+        assertEquals("Lakers", captor.getValue().changes().getTeam());
+        assertEquals(1L, captor.getValue().changes().getVersion());
+        assertNotSame(requestDto, captor.getValue().changes());
     }
 
     @Test
     void testDeletePlayer_ShouldThrowException_WhenPlayerNotFound() {
         // given
         Long playerId = 1L;
-        when(playerRepository.findById(playerId)).thenReturn(Optional.empty());
+        when(playerRepository.removeById(playerId)).thenReturn(0);
 
         // then
         assertThrows(PlayerNotFoundException.class, () -> playerService.deletePlayer(playerId));
 
-        verify(playerRepository).findById(playerId);
+        verify(playerRepository, never()).findById(any());
         verify(playerRepository, never()).deleteById(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testScrollPlayersByPoint_ShouldContinueFromCursor_WhenNextSliceRequested() {
+        // given
+        Player player1 = new Player();
+        player1.setId(4L);
+        player1.setPts(30.0);
+        Player player2 = new Player();
+        player2.setId(9L);
+        player2.setPts(28.5);
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "pts", "id"));
+
+        when(playerRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(player1, player2), pageable, true));
+        when(playerRepository.findPtsDescAfter(28.5, 9L, pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        when(entityMapper.entityToDto(any(Player.class), eq(PlayerResponseDto.class))).thenReturn(new PlayerResponseDto());
+
+        // when
+        PlayerCursorPageDto first = playerService.scrollPlayersByPoint(null, 2, "desc");
+        PlayerCursorPageDto second = playerService.scrollPlayersByPoint(first.getNextCursor(), 2, "desc");
+
+        // then
+        assertTrue(first.isHasNext());
+        assertNotNull(first.getNextCursor());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        verify(playerRepository).findPtsDescAfter(28.5, 9L, pageable);
+    }
+
+    @Test
+    void testScrollPlayersByAge_ShouldThrowException_WhenCursorBelongsToAnotherOrdering() {
+        // given
+        String pointCursor = PlayerCursor.after("pts", Sort.Direction.ASC, 20.0, 3L).encode();
+
+        // then
+        assertThrows(InvalidCursorException.class, () -> playerService.scrollPlayersByAge(pointCursor, 10, "asc"));
+        assertThrows(InvalidCursorException.class, () -> playerService.scrollPlayersByAge("not-a-cursor", 10, "asc"));
+        verifyNoInteractions(playerRepository);
     }
 
+    @Test
+    void testGetPlayersBatch_ShouldMarkMissingKeys_InsteadOfThrowing() {
+        // given
+        Player luka = new Player();
+        luka.setId(1L);
+        luka.setPlayerName("Luka Doncic");
+        luka.setTeam("LAL");
+        PlayerResponseDto lukaDto = new PlayerResponseDto();
+        lukaDto.setId(1L);
+        lukaDto.setTeam("LAL");
+        PlayerBatchRequestDto request = new PlayerBatchRequestDto();
+        request.setIds(List.of(1L, 99L, 1L));
+        request.setNames(List.of("luka doncic", "Nobody"));
+        request.setTeams(List.of("lal", "XYZ"));
+
+        when(playerRepository.findAllById(List.of(1L, 99L))).thenReturn(List.of(luka));
+        when(playerRepository.findAllByPlayerNameIn(List.of("luka doncic", "Nobody"))).thenReturn(List.of(luka));
+        when(playerRepository.findAllByTeamKeyIn(List.of("lal", "xyz"))).thenReturn(List.of(lukaDto));
+        when(entityMapper.entityToDto(luka, PlayerResponseDto.class)).thenReturn(lukaDto);
+
+        // when
+        PlayerBatchResponseDto response = playerService.getPlayersBatch(request);
+        PlayerBatchResponseDto cachedTeams = playerService.getPlayersBatch(teamsOnly("LAL"));
 
+        // then
+        assertEquals(List.of(new PlayerBatchItemDto("1", true, List.of(lukaDto)),
+                new PlayerBatchItemDto("99", false, List.of())), response.getIds());
+        assertEquals(List.of(true, false), response.getNames().stream().map(PlayerBatchItemDto::isFound).toList());
+        assertEquals(List.of(true, false), response.getTeams().stream().map(PlayerBatchItemDto::isFound).toList());
+        assertEquals(List.of(lukaDto), cachedTeams.getTeams().get(0).getPlayers());
+        verify(playerRepository, times(1)).findAllByTeamKeyIn(any());
+    }
+
+    private static PlayerBatchRequestDto teamsOnly(String... teams) {
+        PlayerBatchRequestDto request = new PlayerBatchRequestDto();
+        request.setTeams(List.of(teams));
+        return request;
+    }
 }
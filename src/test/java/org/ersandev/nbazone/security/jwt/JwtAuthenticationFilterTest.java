@@ -0,0 +1,80 @@
+package org.ersandev.nbazone.security.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ersandev.nbazone.security.userdetail.CustomUserDetails;
+import org.ersandev.nbazone.security.userdetail.CustomUserDetailsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtUtils jwtUtils;
+    private JwtTokenCache jwtTokenCache;
+    private CustomUserDetailsService userDetailsService;
+    private MeterRegistry meterRegistry;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = mock(JwtUtils.class);
+        jwtTokenCache = mock(JwtTokenCache.class);
+        userDetailsService = mock(CustomUserDetailsService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new JwtAuthenticationFilter(jwtUtils, jwtTokenCache, userDetailsService,
+                mock(JwtRevocationChecker.class), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testDoFilter_ShouldRecordEveryPhase_WhenCookieCarriesValidToken() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        when(jwtUtils.getJwtFromCookies(request)).thenReturn("token");
+        when(jwtTokenCache.get(eq("token"), anyLong(), any()))
+                .thenReturn(new VerifiedJwt("alice", Long.MAX_VALUE, 0));
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(new CustomUserDetails(1L, "alice",
+                "alice@nbazone.dev", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertEquals(1, phaseCount("cookie"));
+        assertEquals(1, phaseCount("verify"));
+        assertEquals(1, phaseCount("user"));
+        assertEquals("alice", SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+
+    @Test
+    void testDoFilter_ShouldRecordOnlyCookiePhase_WhenRequestHasNoCookie() throws Exception {
+        // when
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertEquals(1, phaseCount("cookie"));
+        assertEquals(0, phaseCount("verify"));
+        assertEquals(0, phaseCount("user"));
+        verifyNoInteractions(jwtTokenCache, userDetailsService);
+    }
+
+    private long phaseCount(String phase) {
+        return meterRegistry.get("auth.jwt.filter").tag("phase", phase).timer().count();
+    }
+}
@@ -0,0 +1,84 @@
+package org.ersandev.nbazone.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenCacheTest {
+
+    private JwtTokenCache jwtTokenCache;
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenCache = new JwtTokenCache(100, new SimpleMeterRegistry());
+        verifications = new AtomicInteger();
+    }
+
+    @Test
+    void testGet_ShouldVerifyOnlyOnce_WhenTokenIsCached() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        // when
+        VerifiedJwt first = jwtTokenCache.get("token-a", 0, token -> verify("alice", expiresAt));
+        VerifiedJwt second = jwtTokenCache.get("token-a", 0, token -> verify("alice", expiresAt));
+
+        // then
+        assertEquals("alice", first.subject());
+        assertEquals(first, second);
+        assertEquals(1, verifications.get());
+        assertEquals(1, jwtTokenCache.stats().hitCount());
+        assertEquals(1, jwtTokenCache.stats().missCount());
+    }
+
+    @Test
+    void testGet_ShouldNotCacheInvalidTokens() {
+        // when
+        jwtTokenCache.get("bad-token", 0, token -> verify(null, 0));
+        VerifiedJwt result = jwtTokenCache.get("bad-token", 0, token -> verify(null, 0));
+
+        // then
+        assertNull(result);
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void testGet_ShouldReverify_WhenCachedTokenIsExpired() {
+        // given
+        long alreadyExpired = System.currentTimeMillis() - 1;
+
+        // when
+        jwtTokenCache.get("token-b", 0, token -> verify("bob", alreadyExpired));
+        jwtTokenCache.get("token-b", 0, token -> verify("bob", alreadyExpired));
+
+        // then
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void testGet_ShouldReverify_WhenEntryWasVerifiedWithRotatedOutKey() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        // when: doğrulama eski key ile sürerken secret rotate edilir ve cache temizlenir, sonuç yine de put edilir
+        jwtTokenCache.get("token-c", 0, token -> {
+            jwtTokenCache.invalidateAll();
+            return verify("carol", expiresAt);
+        });
+        VerifiedJwt afterRotation = jwtTokenCache.get("token-c", 1, token -> null);
+
+        // then
+        assertNull(afterRotation);
+        assertEquals(1, verifications.get());
+    }
+
+    private VerifiedJwt verify(String subject, long expiresAt) {
+        verifications.incrementAndGet();
+        return subject == null ? null : new VerifiedJwt(subject, expiresAt, 0);
+    }
+}
@@ -0,0 +1,45 @@
+package org.ersandev.nbazone.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilsTest {
+
+    private static final String SECRET = "mySecretKey8863179452aopsgjnspkmndfsoufekldnwjgd52gf2opfn545g29wtdnjh";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testParseJwtToken_ShouldCountFailuresByReason() {
+        // given
+        JwtUtils jwtUtils = new JwtUtils(SECRET, 60_000, "springBootnbazone", false, event -> { }, meterRegistry);
+        JwtUtils expiredIssuer = new JwtUtils(SECRET, -60_000, "springBootnbazone", false, event -> { },
+                new SimpleMeterRegistry());
+        String expired = expiredIssuer.generateTokenFromUsername("alice");
+
+        // when
+        JwtParseResult expiredResult = jwtUtils.parseJwtToken(expired);
+        JwtParseResult malformedResult = jwtUtils.parseJwtToken("not-a-jwt");
+        JwtParseResult validResult = jwtUtils.parseJwtToken(jwtUtils.generateTokenFromUsername("alice"));
+
+        // then
+        assertFalse(expiredResult.isValid());
+        assertFalse(malformedResult.isValid());
+        assertTrue(validResult.isValid());
+        assertEquals(1, failures("expired"));
+        assertEquals(1, failures("malformed"));
+        assertEquals(0, failures("invalid_signature"));
+    }
+
+    private double failures(String reason) {
+        return meterRegistry.get("auth.jwt.failures").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,82 @@
+package org.ersandev.nbazone.security.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setIdleEvictionMs(60000);
+        properties.setRoutes(List.of(route("/api/auth/signin", 3, 60), route("/api/**", 100, 600)));
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(properties, meterRegistry);
+    }
+
+    @Test
+    void testRouteFor_ShouldReturnFirstMatchingRoute() {
+        assertEquals("/api/auth/signin", rateLimiter.routeFor("/api/auth/signin").getPattern());
+        assertEquals("/api/**", rateLimiter.routeFor("/api/v1/getAllPlayers").getPattern());
+        assertNull(rateLimiter.routeFor("/swagger-ui/index.html"));
+    }
+
+    @Test
+    void testTryAcquire_ShouldAllowBurstThenRejectUntilRefill() {
+        // given
+        RateLimiter.RouteLimit signin = rateLimiter.routeFor("/api/auth/signin");
+        long now = 0;
+
+        // when
+        long first = rateLimiter.tryAcquire(signin, "ip:10.0.0.1", now);
+        long second = rateLimiter.tryAcquire(signin, "ip:10.0.0.1", now);
+        long third = rateLimiter.tryAcquire(signin, "ip:10.0.0.1", now);
+        long rejected = rateLimiter.tryAcquire(signin, "ip:10.0.0.1", now);
+        long otherClient = rateLimiter.tryAcquire(signin, "ip:10.0.0.2", now);
+        long afterRefill = rateLimiter.tryAcquire(signin, "ip:10.0.0.1", now + SECOND);
+
+        // then
+        assertEquals(0, first);
+        assertEquals(0, second);
+        assertEquals(0, third);
+        assertEquals(SECOND, rejected);
+        assertEquals(0, otherClient);
+        assertEquals(0, afterRefill);
+        assertEquals(5, meterRegistry.get("ratelimit.requests").tag("route", "/api/auth/signin").tag("result", "allowed").counter().count());
+        assertEquals(1, meterRegistry.get("ratelimit.requests").tag("route", "/api/auth/signin").tag("result", "rejected").counter().count());
+    }
+
+    @Test
+    void testEvictIdleBuckets_ShouldRemoveOnlyBucketsThatStayedFull() {
+        // given
+        RateLimiter.RouteLimit signin = rateLimiter.routeFor("/api/auth/signin");
+        rateLimiter.tryAcquire(signin, "u:idle", 0);
+        rateLimiter.tryAcquire(signin, "u:active", 55 * SECOND);
+
+        // when
+        rateLimiter.evictIdleBuckets(62 * SECOND);
+
+        // then
+        assertEquals(1, rateLimiter.activeBuckets());
+        assertEquals(1, meterRegistry.get("ratelimit.buckets.evicted").counter().count());
+    }
+
+    private static RateLimitProperties.Route route(String pattern, int capacity, int refillPerMinute) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPattern(pattern);
+        route.setCapacity(capacity);
+        route.setRefillPerMinute(refillPerMinute);
+        return route;
+    }
+}
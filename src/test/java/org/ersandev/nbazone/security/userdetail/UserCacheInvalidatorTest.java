@@ -0,0 +1,126 @@
+package org.ersandev.nbazone.security.userdetail;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ersandev.nbazone.config.CacheConfig;
+import org.ersandev.nbazone.security.jwt.JwtRevocationChecker;
+import org.ersandev.nbazone.user.AppRole;
+import org.ersandev.nbazone.user.Role;
+import org.ersandev.nbazone.user.RoleRepository;
+import org.ersandev.nbazone.user.User;
+import org.ersandev.nbazone.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Rol değişikliği commit edilince cache'teki UserDetails silinmeli, commit'ten önce (flush anında) silinmemeli
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.app.userDetailsCacheTtlMs=60000",
+        "spring.app.userDetailsCacheMaxSize=100",
+        "spring.app.playerCacheTtlMs=60000",
+        "spring.app.playerCacheMaxSize=100",
+        "spring.app.jwtCacheMaxSize=100"
+})
+@Import({CacheConfig.class, CustomUserDetailsService.class, UserCacheInvalidator.class, JwtRevocationChecker.class,
+        UserCacheInvalidatorTest.MeterRegistryTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserCacheInvalidatorTest {
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private UserCacheInvalidator userCacheInvalidator;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testLoadUserByUsername_ShouldSeeNewRoles_AfterRoleChangeIsCommitted() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Role admin = transaction.execute(status -> {
+            Role user = roleRepository.save(new Role(AppRole.ROLE_USER));
+            User alice = new User("alice", "alice@nbazone.dev", "secret");
+            alice.getRoles().add(user);
+            userRepository.save(alice);
+            return roleRepository.save(new Role(AppRole.ROLE_ADMIN));
+        });
+        assertEquals(Set.of("ROLE_USER"), authorities(userDetailsService.loadUserByUsername("alice")));
+        Cache userDetailsCache = cacheManager.getCache(CacheConfig.USER_DETAILS_CACHE);
+
+        // when
+        transaction.executeWithoutResult(status -> {
+            User alice = userRepository.findByUsername("alice").orElseThrow();
+            alice.getRoles().add(admin);
+            userRepository.saveAndFlush(alice);
+            // flush edildi ama commit edilmedi: kayıt hâlâ cache'te olmalı
+            assertNotNull(userDetailsCache.get("alice"));
+        });
+
+        // then
+        assertNull(userDetailsCache.get("alice"));
+        assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), authorities(userDetailsService.loadUserByUsername("alice")));
+    }
+
+    @Test
+    void testEvict_ShouldRemoveTheKeyCacheableUses_WhenDefaultLocaleIsTurkish() {
+        // given: tr locale'inde "I".toLowerCase() "ı" olur
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    userRepository.save(new User("Ilker", "ilker@nbazone.dev", "secret")));
+            UserDetails loaded = userDetailsService.loadUserByUsername("Ilker");
+            Cache userDetailsCache = cacheManager.getCache(CacheConfig.USER_DETAILS_CACHE);
+
+            // when
+            boolean cachedUnderRootKey = userDetailsCache.get("ilker") != null;
+            userCacheInvalidator.evict("Ilker");
+
+            // then
+            assertTrue(cachedUnderRootKey);
+            assertNull(userDetailsCache.get("ilker"));
+            assertThrows(UnsupportedOperationException.class, () -> loaded.getAuthorities().clear());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    private static Set<String> authorities(UserDetails userDetails) {
+        return userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+
+    @TestConfiguration
+    static class MeterRegistryTestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.ersandev.nbazone.stats;
+
+import org.ersandev.nbazone.exceptions.InvalidLeaderboardQueryException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardFormulaTest {
+
+    @Test
+    void testParse_ShouldMergeTermsAndApplySigns() {
+        // when
+        LeaderboardFormula formula = LeaderboardFormula.parse(" pts * 1 + 1.2*REB + ast*1.5 - pts*0.5 + blk*-2 ");
+
+        // then
+        assertEquals(Map.of(PlayerStat.PTS, 0.5, PlayerStat.REB, 1.2, PlayerStat.AST, 1.5, PlayerStat.BLK, -2.0),
+                formula.terms());
+    }
+
+    @Test
+    void testParse_ShouldThrowInvalidLeaderboardQuery_WhenFormulaIsInvalid() {
+        // when + then
+        assertThrows(InvalidLeaderboardQueryException.class, () -> LeaderboardFormula.parse("pts*reb"));
+        assertThrows(InvalidLeaderboardQueryException.class, () -> LeaderboardFormula.parse("height*2"));
+        assertThrows(InvalidLeaderboardQueryException.class, () -> LeaderboardFormula.parse("pts++reb"));
+        assertThrows(InvalidLeaderboardQueryException.class, () -> LeaderboardFormula.parse("2*3"));
+    }
+}
@@ -0,0 +1,118 @@
+package org.ersandev.nbazone.stats;
+
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.player.Player;
+import org.ersandev.nbazone.player.PlayerChangedEvent;
+import org.ersandev.nbazone.player.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PlayerRankIndexTest {
+
+    private PlayerRepository playerRepository;
+    private PlayerRankIndex rankIndex;
+
+    @BeforeEach
+    void setUp() {
+        playerRepository = mock(PlayerRepository.class);
+        rankIndex = new PlayerRankIndex(playerRepository, mock(PlatformTransactionManager.class));
+        when(playerRepository.streamAllAsDto()).thenReturn(Stream.of(
+                dto(1L, "LAL", 30.0),
+                dto(2L, "LAL", 20.0),
+                dto(3L, "BOS", 20.0),
+                dto(4L, "BOS", 10.0),
+                dto(5L, "LAL", null)));
+        rankIndex.reload();
+    }
+
+    @Test
+    void testRank_ShouldShareRankForTiesAndSkipNulls() {
+        // when
+        PlayerRankIndex.StatRank top = rankIndex.rank(1L, PlayerStat.PTS).orElseThrow();
+        PlayerRankIndex.StatRank tied = rankIndex.rank(3L, PlayerStat.PTS).orElseThrow();
+        PlayerRankIndex.StatRank missing = rankIndex.rank(5L, PlayerStat.PTS).orElseThrow();
+
+        // then
+        assertEquals(1, top.rank());
+        assertEquals(87.5, top.percentile());
+        assertEquals(2, tied.rank());
+        assertEquals(50.0, tied.percentile());
+        assertEquals(4, tied.total());
+        assertNull(missing.rank());
+        assertTrue(rankIndex.rank(99L, PlayerStat.PTS).isEmpty());
+    }
+
+    @Test
+    void testOnPlayerChanged_ShouldUpdateRanksWithoutReloading() {
+        // when
+        rankIndex.onPlayerChanged(PlayerChangedEvent.updated(4L, changes("LAL", 40.0), 1L));
+        List<PlayerRankIndex.StatRank> lakers = rankIndex.rankTeam("lal", PlayerStat.PTS);
+
+        // then
+        assertEquals(List.of(4L, 1L, 2L, 5L), lakers.stream().map(PlayerRankIndex.StatRank::playerId).toList());
+        assertEquals(List.of(3L), rankIndex.rankTeam("BOS", PlayerStat.PTS).stream()
+                .map(PlayerRankIndex.StatRank::playerId).toList());
+        assertEquals(3, rankIndex.rank(3L, PlayerStat.PTS).orElseThrow().rank());
+        verify(playerRepository, times(1)).streamAllAsDto();
+    }
+
+    @Test
+    void testReload_ShouldKeepChangesThatArriveWhileSnapshotIsRead() {
+        // given: snapshot okunurken 4 numaralı oyuncu güncellenir, snapshot ise eski hali döner
+        when(playerRepository.streamAllAsDto()).thenAnswer(invocation -> {
+            rankIndex.onPlayerChanged(PlayerChangedEvent.updated(4L, changes("LAL", 40.0), 1L));
+            return Stream.of(dto(1L, "LAL", 30.0), dto(4L, "BOS", 10.0));
+        });
+
+        // when
+        rankIndex.reload();
+
+        // then
+        assertEquals(1, rankIndex.rank(4L, PlayerStat.PTS).orElseThrow().rank());
+        assertEquals("LAL", rankIndex.rank(4L, PlayerStat.PTS).orElseThrow().team());
+        assertTrue(rankIndex.rankTeam("BOS", PlayerStat.PTS).isEmpty());
+    }
+
+    @Test
+    void testRankTeam_ShouldMatchPaddedTeamNamesByCacheTeamKey() {
+        // when
+        rankIndex.onPlayerChanged(PlayerChangedEvent.added(player(6L, " bos ", 5.0)));
+
+        // then
+        assertEquals(List.of(3L, 4L, 6L), rankIndex.rankTeam(" BOS", PlayerStat.PTS).stream()
+                .map(PlayerRankIndex.StatRank::playerId).toList());
+    }
+
+    private static PlayerRequestDto changes(String team, Double pts) {
+        PlayerRequestDto changes = new PlayerRequestDto();
+        changes.setTeam(team);
+        changes.setPts(pts);
+        return changes;
+    }
+
+    private static PlayerResponseDto dto(Long id, String team, Double pts) {
+        PlayerResponseDto dto = new PlayerResponseDto();
+        dto.setId(id);
+        dto.setPlayerName("Player " + id);
+        dto.setTeam(team);
+        dto.setPts(pts);
+        return dto;
+    }
+
+    private static Player player(Long id, String team, Double pts) {
+        Player player = new Player();
+        player.setId(id);
+        player.setPlayerName("Player " + id);
+        player.setTeam(team);
+        player.setPts(pts);
+        return player;
+    }
+}
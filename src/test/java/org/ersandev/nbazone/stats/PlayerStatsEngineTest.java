@@ -0,0 +1,215 @@
+package org.ersandev.nbazone.stats;
+
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.mapper.PlayerMapperImpl;
+import org.ersandev.nbazone.player.Player;
+import org.ersandev.nbazone.player.PlayerChangedEvent;
+import org.ersandev.nbazone.player.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PlayerStatsEngineTest {
+
+    private PlayerRepository playerRepository;
+    private PlayerStatsEngine statsEngine;
+
+    @BeforeEach
+    void setUp() {
+        playerRepository = mock(PlayerRepository.class);
+        statsEngine = new PlayerStatsEngine(playerRepository, new PlayerMapperImpl());
+    }
+
+    @Test
+    void testTopTenByFilter_ShouldOrderByStatDescendingWithNullsLast() {
+        // given
+        when(playerRepository.findAll()).thenReturn(List.of(
+                player(1L, "A", 25, 20.0, 5.0),
+                player(2L, "B", 30, 25.0, null),
+                player(3L, "C", 22, 15.0, 11.0)));
+        statsEngine.reload();
+
+        // when
+        List<Player> result = statsEngine.topTenByFilter("reb");
+
+        // then
+        assertEquals(List.of(3L, 1L, 2L), ids(result));
+    }
+
+    @Test
+    void testTopTenByFilter_ShouldFallBackToIdDescending_WhenFilterIsNotSupported() {
+        // given
+        when(playerRepository.findAll()).thenReturn(List.of(
+                player(1L, "A", 25, 20.0, 5.0),
+                player(2L, "B", 30, 25.0, 7.0)));
+        statsEngine.reload();
+
+        // when
+        List<Player> result = statsEngine.topTenByFilter("pts");
+
+        // then
+        assertEquals(List.of(2L, 1L), ids(result));
+    }
+
+    @Test
+    void testSortedPage_ShouldPageInBothDirections() {
+        // given
+        when(playerRepository.findAll()).thenReturn(List.of(
+                player(1L, "A", 25, 20.0, 5.0),
+                player(2L, "B", 30, null, 7.0),
+                player(3L, "C", 22, 15.0, 11.0)));
+        statsEngine.reload();
+
+        // when
+        Page<Player> ascending = statsEngine.sortedPage(PlayerStat.PTS,
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "pts")));
+        Page<Player> descending = statsEngine.sortedPage(PlayerStat.PTS,
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "pts")));
+
+        // then
+        assertEquals(List.of(2L, 3L), ids(ascending.getContent()));
+        assertEquals(3, ascending.getTotalElements());
+        assertEquals(List.of(2L), ids(descending.getContent()));
+    }
+
+    @Test
+    void testOnPlayerChanged_ShouldApplyUpdatesAndDeletes() {
+        // given
+        Player original = player(1L, "A", 25, 20.0, 5.0);
+        when(playerRepository.findAll()).thenReturn(List.of(original, player(2L, "B", 30, 25.0, 7.0)));
+        statsEngine.reload();
+
+        // when
+        PlayerRequestDto changes = new PlayerRequestDto();
+        changes.setReb(9.0);
+        statsEngine.onPlayerChanged(PlayerChangedEvent.updated(1L, changes, 1L));
+        List<Player> afterUpdate = statsEngine.topTenByFilter("reb");
+        statsEngine.onPlayerChanged(PlayerChangedEvent.deleted(2L));
+        List<Player> afterDelete = statsEngine.topTenByFilter("reb");
+
+        // then
+        assertEquals(List.of(1L, 2L), ids(afterUpdate));
+        assertEquals(List.of(1L), ids(afterDelete));
+        verify(playerRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testSortedPage_ShouldMatchAFullRebuild_AfterAddsUpdatesAndDeletes() {
+        // given: 40 oyuncu, eşit ve null puanlar dahil (merge sort yolunu da çalıştırır)
+        Random random = new Random(42);
+        Map<Long, Player> expected = new LinkedHashMap<>();
+        for (long id = 1; id <= 40; id++) {
+            expected.put(id, player(id, "P" + id, 20 + random.nextInt(15), points(random), 5.0));
+        }
+        when(playerRepository.findAll()).thenReturn(List.copyOf(expected.values()));
+        statsEngine.reload();
+
+        // when
+        for (int i = 0; i < 60; i++) {
+            long id = 1 + random.nextInt(45);
+            int operation = random.nextInt(3);
+            if (operation == 0 && !expected.containsKey(id)) {
+                Player added = player(id, "P" + id, 20 + random.nextInt(15), points(random), 5.0);
+                expected.put(id, added);
+                statsEngine.onPlayerChanged(PlayerChangedEvent.added(added));
+            } else if (operation == 1 && expected.containsKey(id)) {
+                PlayerRequestDto changes = new PlayerRequestDto();
+                changes.setPts(random.nextInt(5) * 10.0);
+                expected.get(id).setPts(changes.getPts());
+                statsEngine.onPlayerChanged(PlayerChangedEvent.updated(id, changes, 1L));
+            } else if (expected.remove(id) != null) {
+                statsEngine.onPlayerChanged(PlayerChangedEvent.deleted(id));
+            }
+        }
+        Page<Player> incremental = statsEngine.sortedPage(PlayerStat.PTS, PageRequest.of(0, 100, Sort.by("pts")));
+        List<Player> topAge = statsEngine.topN(PlayerStat.AGE, 5);
+
+        PlayerStatsEngine rebuilt = new PlayerStatsEngine(playerRepository, new PlayerMapperImpl());
+        when(playerRepository.findAll()).thenReturn(List.copyOf(expected.values()));
+        rebuilt.reload();
+
+        // then
+        List<Long> byPoints = expected.values().stream()
+                .sorted(Comparator.comparing(Player::getPts, Comparator.nullsFirst(Double::compare))
+                        .thenComparing(Player::getId))
+                .map(Player::getId).toList();
+        assertEquals(byPoints, ids(incremental.getContent()));
+        assertEquals(ids(rebuilt.sortedPage(PlayerStat.PTS, PageRequest.of(0, 100, Sort.by("pts"))).getContent()),
+                ids(incremental.getContent()));
+        assertEquals(ids(rebuilt.topN(PlayerStat.AGE, 5)), ids(topAge));
+        verify(playerRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testLeaderboard_ShouldRankByWeightedSumWithinFilters() {
+        // given
+        Player a = player(1L, "A", 25, 20.0, 5.0);
+        a.setTeam("LAL");
+        Player b = player(2L, "B", 30, 25.0, null);
+        b.setTeam("lal");
+        Player c = player(3L, "C", 22, 10.0, 10.0);
+        c.setTeam("LAL");
+        Player d = player(4L, "D", 24, 40.0, 10.0);
+        d.setTeam("BOS");
+        when(playerRepository.findAll()).thenReturn(List.of(a, b, c, d));
+        statsEngine.reload();
+        LeaderboardFormula formula = LeaderboardFormula.parse("pts*1 + reb*1.5");
+
+        // when
+        List<ScoredPlayer> result = statsEngine.leaderboard(new LeaderboardQuery(formula, "LAL", null, 29, 2));
+
+        // then
+        assertEquals(List.of(1L, 3L), result.stream().map(scored -> scored.player().getId()).toList());
+        assertEquals(27.5, result.get(0).score());
+        assertEquals(25.0, result.get(1).score());
+    }
+
+    @Test
+    void testLeaderboard_ShouldMatchTeamsByCacheTeamKey() {
+        // given
+        Player a = player(1L, "A", 25, 20.0, 5.0);
+        a.setTeam(" LAL ");
+        Player b = player(2L, "B", 30, 25.0, 5.0);
+        b.setTeam("BOS");
+        when(playerRepository.findAll()).thenReturn(List.of(a, b));
+        statsEngine.reload();
+        LeaderboardQuery query = new LeaderboardQuery(LeaderboardFormula.parse("pts*1"), "lal", null, null, 10);
+
+        // when
+        List<ScoredPlayer> result = statsEngine.leaderboard(query);
+
+        // then
+        assertEquals("lal", query.teamKey());
+        assertEquals(List.of(1L), result.stream().map(scored -> scored.player().getId()).toList());
+    }
+
+    private static Player player(Long id, String name, int age, Double pts, Double reb) {
+        Player player = new Player();
+        player.setId(id);
+        player.setPlayerName(name);
+        player.setAge(age);
+        player.setPts(pts);
+        player.setReb(reb);
+        return player;
+    }
+
+    //her beş oyuncudan biri null, diğerleri az sayıda farklı değerden biri (eşitlikler id ile çözülür)
+    private static Double points(Random random) {
+        return random.nextInt(5) == 0 ? null : random.nextInt(5) * 10.0;
+    }
+
+    private static List<Long> ids(List<Player> players) {
+        return players.stream().map(Player::getId).toList();
+    }
+}
@@ -0,0 +1,124 @@
+package org.ersandev.nbazone.stats;
+
+import org.ersandev.nbazone.dto.PlayerRequestDto;
+import org.ersandev.nbazone.dto.PlayerResponseDto;
+import org.ersandev.nbazone.dto.StatSummaryDto;
+import org.ersandev.nbazone.dto.TeamStatsDto;
+import org.ersandev.nbazone.player.Player;
+import org.ersandev.nbazone.player.PlayerChangedEvent;
+import org.ersandev.nbazone.player.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TeamStatsAggregatorTest {
+
+    private PlayerRepository playerRepository;
+    private TeamStatsAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        playerRepository = mock(PlayerRepository.class);
+        aggregator = new TeamStatsAggregator(playerRepository, mock(PlatformTransactionManager.class));
+        when(playerRepository.streamAllAsDto()).thenReturn(Stream.of(
+                dto(1L, "LAL", 30.0, 20.0),
+                dto(2L, "LAL", 10.0, 10.0),
+                dto(3L, "lal", null, 5.0),
+                dto(4L, "BOS", 20.0, 25.0)));
+        aggregator.reload();
+    }
+
+    @Test
+    void testSummary_ShouldAggregateTeamStatsCaseInsensitively() {
+        // when
+        TeamStatsDto lakers = aggregator.summary("Lal").orElseThrow();
+        StatSummaryDto minutes = lakers.getStats().get("min");
+
+        // then
+        assertEquals(3, lakers.getPlayers());
+        assertEquals(2, minutes.getCount());
+        assertEquals(40.0, minutes.getTotal());
+        assertEquals(20.0, minutes.getAverage());
+        assertEquals(10.0, minutes.getMin());
+        assertEquals(30.0, minutes.getMax());
+        assertEquals(10.0, minutes.getStdDev(), 1e-9);
+        //(20*30 + 10*10) / (30 + 10)
+        assertEquals(17.5, lakers.getStats().get("pts").getMinutesWeightedAverage(), 1e-9);
+        assertEquals(List.of("BOS", "LAL"), aggregator.summaries().stream().map(TeamStatsDto::getTeam).toList());
+    }
+
+    @Test
+    void testOnPlayerChanged_ShouldMoveValuesBetweenTeamsWithoutReloading() {
+        // when
+        aggregator.onPlayerChanged(PlayerChangedEvent.updated(1L, changes("BOS", 40.0), 1L));
+        aggregator.onPlayerChanged(PlayerChangedEvent.deleted(4L));
+
+        // then
+        StatSummaryDto lakersPts = aggregator.summary("LAL").orElseThrow().getStats().get("pts");
+        assertEquals(2, lakersPts.getCount());
+        assertEquals(10.0, lakersPts.getMax());
+        StatSummaryDto celticsPts = aggregator.summary("BOS").orElseThrow().getStats().get("pts");
+        assertEquals(1, celticsPts.getCount());
+        assertEquals(40.0, celticsPts.getMin());
+        assertEquals(0.0, celticsPts.getStdDev());
+        verify(playerRepository, times(1)).streamAllAsDto();
+    }
+
+    @Test
+    void testReload_ShouldKeepChangesThatArriveWhileSnapshotIsRead() {
+        // given: snapshot okunurken 4 numaralı oyuncu silinir, snapshot ise onu hâlâ içerir
+        when(playerRepository.streamAllAsDto()).thenAnswer(invocation -> {
+            aggregator.onPlayerChanged(PlayerChangedEvent.deleted(4L));
+            return Stream.of(dto(1L, "LAL", 30.0, 20.0), dto(4L, "BOS", 20.0, 25.0));
+        });
+
+        // when
+        aggregator.reload();
+
+        // then
+        assertTrue(aggregator.summary("BOS").isEmpty());
+        assertEquals(List.of("LAL"), aggregator.summaries().stream().map(TeamStatsDto::getTeam).toList());
+    }
+
+    @Test
+    void testOnPlayerChanged_ShouldGroupPaddedTeamNamesUnderTheCacheTeamKey() {
+        // when
+        aggregator.onPlayerChanged(PlayerChangedEvent.added(player(5L, " BOS ", 10.0, 5.0)));
+
+        // then
+        assertEquals(2, aggregator.summary("bos").orElseThrow().getPlayers());
+        assertEquals(2, aggregator.summary(" BOS").orElseThrow().getPlayers());
+        assertEquals(List.of("BOS", "LAL"), aggregator.summaries().stream().map(TeamStatsDto::getTeam).toList());
+    }
+
+    private static PlayerRequestDto changes(String team, Double pts) {
+        PlayerRequestDto changes = new PlayerRequestDto();
+        changes.setTeam(team);
+        changes.setPts(pts);
+        return changes;
+    }
+
+    private static PlayerResponseDto dto(Long id, String team, Double min, Double pts) {
+        PlayerResponseDto dto = new PlayerResponseDto();
+        dto.setId(id);
+        dto.setTeam(team);
+        dto.setMin(min);
+        dto.setPts(pts);
+        return dto;
+    }
+
+    private static Player player(Long id, String team, Double min, Double pts) {
+        Player player = new Player();
+        player.setId(id);
+        player.setTeam(team);
+        player.setMin(min);
+        player.setPts(pts);
+        return player;
+    }
+}
@@ -0,0 +1,64 @@
+package org.ersandev.nbazone.support;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Hibernate'in hazırladığı her SQL'i StatementInspector üzerinden görür ve assertMaxStatements içindeki
+// çağrının kaç statement çalıştırdığını sayar. N+1 gerilemeleri testte statement sayısı olarak yakalanır.
+// Sadece çağıran thread'in statement'ları sayılır; bir JDBC batch tek prepare olduğu için tek statement sayılır.
+// Kullanım: @Import(SqlStatementCounter.Config.class) ve testte counter bean'i inject edilir.
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<List<String>> recording = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = recording.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    // yazma işlemlerinde statement'lar flush'ta çalışır, bu yüzden action içinde flush edilmelidir
+    public <T> T assertMaxStatements(int max, ThrowingSupplier<T> action) {
+        List<String> statements = new ArrayList<>();
+        recording.set(statements);
+        T result;
+        try {
+            result = action.get();
+        } catch (Throwable e) {
+            throw new AssertionError("Action failed while counting SQL statements", e);
+        } finally {
+            recording.remove();
+        }
+        if (statements.size() > max) {
+            fail("Expected at most " + max + " SQL statements but " + statements.size() + " were issued:\n"
+                    + String.join("\n", statements));
+        }
+        return result;
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public SqlStatementCounter sqlStatementCounter() {
+            return new SqlStatementCounter();
+        }
+
+        @Bean
+        public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter counter) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+        }
+    }
+}
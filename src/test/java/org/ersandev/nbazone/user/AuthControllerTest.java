@@ -0,0 +1,78 @@
+package org.ersandev.nbazone.user;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ersandev.nbazone.security.jwt.JwtUtils;
+import org.ersandev.nbazone.security.request.SignupRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AuthControllerTest {
+
+    private UserRepository userRepository;
+    private RoleRepository roleRepository;
+    private MeterRegistry meterRegistry;
+    private AuthController authController;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        roleRepository = mock(RoleRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+        authController = new AuthController(mock(JwtUtils.class), mock(AuthenticationManager.class), userRepository,
+                roleRepository, passwordEncoder, meterRegistry);
+    }
+
+    @Test
+    void testRegisterUser_ShouldRecordFailure_WhenEmailIsAlreadyInUse() {
+        // given
+        when(userRepository.existsByEmail("alice@nbazone.dev")).thenReturn(true);
+
+        // when
+        ResponseEntity<?> response = authController.registerUser(signupRequest());
+
+        // then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(1, signupCount("failure"));
+        assertEquals(0, signupCount("success"));
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void testRegisterUser_ShouldRecordSuccess_WhenUserIsSaved() {
+        // given
+        when(roleRepository.findByRoleName(AppRole.ROLE_USER)).thenReturn(Optional.of(new Role(AppRole.ROLE_USER)));
+
+        // when
+        ResponseEntity<?> response = authController.registerUser(signupRequest());
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, signupCount("success"));
+        assertEquals(0, signupCount("failure"));
+        verify(userRepository).save(any(User.class));
+    }
+
+    private long signupCount(String outcome) {
+        return meterRegistry.get("auth.requests").tag("operation", "signup").tag("outcome", outcome).timer().count();
+    }
+
+    private static SignupRequest signupRequest() {
+        SignupRequest request = new SignupRequest();
+        request.setUsername("alice");
+        request.setEmail("alice@nbazone.dev");
+        request.setPassword("secret1");
+        return request;
+    }
+}